@@ -10,6 +10,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.sql.SQLOutput;
 
@@ -17,6 +18,7 @@ import java.sql.SQLOutput;
 @EnableJpaAuditing
 @EnableDiscoveryClient
 @EnableFeignClients
+@EnableScheduling
 public class UserServer {
 
 //	@Autowired
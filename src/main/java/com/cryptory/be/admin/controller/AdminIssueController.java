@@ -1,6 +1,7 @@
 package com.cryptory.be.admin.controller;
 
 import com.cryptory.be.admin.dto.issue.*;
+import com.cryptory.be.admin.dto.post.PostExportFormat;
 import com.cryptory.be.admin.service.AdminIssueService;
 import com.cryptory.be.admin.service.AdminPostCommentService;
 import jakarta.validation.Valid;
@@ -8,14 +9,19 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 /**
  * packageName    : com.cryptory.be.admin.controller
@@ -113,8 +119,8 @@ public class AdminIssueController {
     public ResponseEntity<?> deletePosts(@RequestParam("ids") List<Long> ids,  @RequestBody Map<String, Boolean> body) {
         try{
             if (body.containsKey("isDeleted") && body.get("isDeleted")) {
-                adminPostCommentService.deletePosts(ids);
-                return ResponseEntity.ok("성공적으로 삭제되었습니다.");
+                int deleted = adminPostCommentService.deletePosts(ids);
+                return ResponseEntity.ok(deleted + "건이 성공적으로 삭제되었습니다.");
             } else {
                 return ResponseEntity.badRequest().body("isDeleted 필드는 true여야 합니다.");
             }
@@ -123,6 +129,33 @@ public class AdminIssueController {
         }
     }
 
+    // 코인 게시판 전체 내보내기 (NDJSON/CSV 스트리밍)
+    @GetMapping("/coins/{coinId}/posts/export")
+    public ResponseEntity<?> exportPosts(@PathVariable Long coinId,
+                                         @RequestParam(defaultValue = "ndjson") String format) {
+        Optional<PostExportFormat> exportFormat = PostExportFormat.from(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().body("format은 ndjson 또는 csv여야 합니다.");
+        }
+
+        // 스트리밍이 시작되면 200과 헤더가 이미 나가므로 설정 문제는 미리 응답
+        if (!adminPostCommentService.isExportAvailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("게시글 내보내기를 사용할 수 없습니다. DB 설정(useCursorFetch)을 확인해 주세요.");
+        }
+
+        PostExportFormat selected = exportFormat.get();
+        StreamingResponseBody body = out -> adminPostCommentService.exportPosts(coinId, selected, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(selected.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("coin-" + coinId + "-posts." + selected.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     // 댓글 삭제 (논리적 삭제)
     @PatchMapping("/comments/{commentId}")
     public ResponseEntity<?> deleteComment(@PathVariable Long commentId, @RequestBody Map<String, Boolean> body) {
@@ -0,0 +1,38 @@
+package com.cryptory.be.admin.dto.post;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 게시글 내보내기 행 (영속성 컨텍스트에 올라가지 않는 DTO 프로젝션)
+@Getter
+public class PostExportRow {
+
+    private final Long id;
+    private final Long coinId;
+    private final String title;
+    private final String body;
+    private final String nickname;
+    private final Long viewCnt;
+    private final Long likeCnt;
+    private final Long commentCnt;
+    private final boolean deleted;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public PostExportRow(Long id, Long coinId, String title, String body, String nickname,
+                         Long viewCnt, Long likeCnt, Long commentCnt, boolean deleted,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.coinId = coinId;
+        this.title = title;
+        this.body = body;
+        this.nickname = nickname;
+        this.viewCnt = viewCnt;
+        this.likeCnt = likeCnt;
+        this.commentCnt = commentCnt;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,5 +1,9 @@
 package com.cryptory.be.admin.service;
 
+import com.cryptory.be.admin.dto.post.PostExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -14,9 +18,15 @@ import java.util.List;
  * 2/22/25         조영상        최초 생성
  */
 public interface AdminPostCommentService {
-    // 게시글 강제 삭제
-    void deletePosts(List<Long> ids);
+    // 게시글 강제 삭제 (실제 삭제된 건수 반환)
+    int deletePosts(List<Long> ids);
 
     // 댓글 강제 삭제
     void deleteComment(Long commentId);
+
+    // 내보내기를 스트리밍할 수 있는 DB 설정인지 (응답을 시작하기 전에 확인)
+    boolean isExportAvailable();
+
+    // 코인 게시판 전체 내보내기 (행 단위로 바로 출력)
+    void exportPosts(Long coinId, PostExportFormat format, OutputStream out) throws IOException;
 }
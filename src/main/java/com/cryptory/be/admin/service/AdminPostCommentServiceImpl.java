@@ -1,12 +1,38 @@
 package com.cryptory.be.admin.service;
 
-import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.admin.dto.post.PostExportFormat;
+import com.cryptory.be.admin.dto.post.PostExportRow;
 import com.cryptory.be.post.repository.PostRepository;
+import com.cryptory.be.post.service.CommentService;
+import com.cryptory.be.post.service.PostCountService;
+import com.cryptory.be.post.service.PostDetailCache;
+import com.cryptory.be.post.service.PostPageCache;
+import com.cryptory.be.post.service.PostSearchIndex;
+import com.cryptory.be.post.service.PostTrendingTracker;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * packageName    : com.cryptory.be.admin.service
@@ -19,22 +45,149 @@ import java.util.List;
  * -----------------------------------------------------------
  * 2/22/25         조영상        최초 생성
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AdminPostCommentServiceImpl implements AdminPostCommentService {
     private final PostRepository postRepository;
-    //private final CommentRepository commentRepository;
+    private final PostCountService postCountService;
+    private final PostPageCache postPageCache;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTrendingTracker postTrendingTracker;
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
+    private static final String CSV_HEADER =
+            "id,coinId,title,body,nickname,viewCnt,likeCnt,commentCnt,deleted,createdAt,updatedAt\n";
+
+    // IN 절 크기 제한 (DB 파라미터 수 제한, 긴 쿼리 파싱 비용 방지)
+    @Value("${admin.post.delete-chunk-size:1000}")
+    private int deleteChunkSize;
+
+    // 내보내기(읽기 전용)가 읽는 DB 주소: replica가 있으면 replica, 없으면 기본 DataSource
+    @Value("${datasource.replica.url:${spring.datasource.url:}}")
+    private String exportJdbcUrl;
+
+    @PostConstruct
+    protected void checkExportConfig() {
+        if (!isExportAvailable()) {
+            log.warn("JDBC URL에 useCursorFetch=true가 없어 게시글 내보내기를 사용할 수 없습니다");
+        }
+    }
+
+    // 엔티티를 적재하지 않고 청크 단위 UPDATE로 일괄 논리 삭제
     @Override
-    public void deletePosts(List<Long> ids) {
-        List<Post> posts = postRepository.findAllByIdsAndNotDeleted(ids);
-        posts.forEach(Post::delete);
+    public int deletePosts(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        LocalDateTime now = LocalDateTime.now();
+
+        int affected = 0;
+        List<Long> deletedIds = new ArrayList<>();
+        Map<Long, Long> deletedByCoin = new HashMap<>();
+
+        for (int from = 0; from < distinctIds.size(); from += deleteChunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + deleteChunkSize, distinctIds.size()));
+
+            // 코인별 게시글 수 차감과 캐시 무효화에 필요한 [id, coinId]만 조회
+            List<Object[]> targets = postRepository.findActiveCoinIdsByIds(chunk);
+            if (targets.isEmpty()) {
+                continue;
+            }
+
+            List<Long> targetIds = new ArrayList<>(targets.size());
+            for (Object[] row : targets) {
+                Long postId = (Long) row[0];
+                targetIds.add(postId);
+                deletedIds.add(postId);
+                deletedByCoin.merge((Long) row[1], 1L, Long::sum);
+            }
+            affected += postRepository.softDeleteByIds(targetIds, now);
+        }
+
+        // 코인별 게시글 수 차감 (같은 트랜잭션), 캐시/색인은 커밋 후 반영
+        deletedByCoin.forEach(postCountService::decrease);
+        deletedByCoin.keySet().forEach(postPageCache::invalidate);
+        postDetailCache.invalidate(deletedIds);
+        postSearchIndex.delete(deletedIds);
+        postTrendingTracker.remove(deletedIds);
+
+        return affected;
     }
 
-    // TODO. Comment 엔티티와 리포지토리 생성 후 개발
     @Override
     public void deleteComment(Long commentId) {
+        commentService.deleteCommentByAdmin(commentId);
+    }
+
+    // 전진 전용 커서로 한 행씩 읽어서 바로 출력 (행 수와 상관없이 힙 사용량 일정)
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPosts(Long coinId, PostExportFormat format, OutputStream out) throws IOException {
+        if (!isExportAvailable()) {
+            throw new IllegalStateException("게시글 내보내기는 JDBC URL에 useCursorFetch=true가 필요합니다");
+        }
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+
+        try (Stream<PostExportRow> rows = postRepository.streamExportRowsByCoinId(coinId)) {
+            Iterator<PostExportRow> iterator = rows.iterator();
+            if (format == PostExportFormat.CSV) {
+                writeCsv(iterator, buffered);
+            } else {
+                writeNdjson(iterator, buffered);
+            }
+        }
+        buffered.flush();
+    }
+
+    // MySQL 드라이버는 useCursorFetch=true가 없으면 fetch size를 무시하고 결과 전체를 힙에 올림
+    @Override
+    public boolean isExportAvailable() {
+        return !exportJdbcUrl.startsWith("jdbc:mysql:") || exportJdbcUrl.contains("useCursorFetch=true");
+    }
+
+    private void writeNdjson(Iterator<PostExportRow> rows, OutputStream out) throws IOException {
+        // 행마다 응답 스트림이 닫히지 않도록
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            writer.writeValue(out, rows.next());
+            out.write('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<PostExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(CSV_HEADER);
+        while (rows.hasNext()) {
+            PostExportRow row = rows.next();
+            writer.write(String.join(",",
+                    String.valueOf(row.getId()),
+                    String.valueOf(row.getCoinId()),
+                    csv(row.getTitle()),
+                    csv(row.getBody()),
+                    csv(row.getNickname()),
+                    String.valueOf(row.getViewCnt()),
+                    String.valueOf(row.getLikeCnt()),
+                    String.valueOf(row.getCommentCnt()),
+                    String.valueOf(row.isDeleted()),
+                    String.valueOf(row.getCreatedAt()),
+                    String.valueOf(row.getUpdatedAt())));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    // 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트 수식으로 해석되지 않도록 앞에 ' 추가
+    private String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
 
+        String escaped = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (escaped.contains(",") || escaped.contains("\"") || escaped.contains("\n") || escaped.contains("\r")) {
+            return "\"" + escaped.replace("\"", "\"\"") + "\"";
+        }
+        return escaped;
     }
 }
@@ -0,0 +1,34 @@
+package com.cryptory.be.global.controller;
+
+import com.cryptory.be.global.util.AttachmentSender;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 첨부 파일/프로필 이미지 제공 (/attach/files/{저장 경로}?w={폭})
+@RestController
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private static final String PREFIX = "/attach/files";
+
+    private final AttachmentSender attachmentSender;
+
+    @RequestMapping(value = PREFIX + "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getFile(HttpServletRequest request,
+                        HttpServletResponse response,
+                        @RequestParam(value = "w", required = false) Integer width) throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String storedDir = UriUtils.decode(path.substring(PREFIX.length()), StandardCharsets.UTF_8);
+
+        attachmentSender.send(storedDir, width, request, response);
+    }
+}
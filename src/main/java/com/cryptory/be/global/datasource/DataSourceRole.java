@@ -0,0 +1,6 @@
+package com.cryptory.be.global.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,31 @@
+package com.cryptory.be.global.datasource;
+
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션이어도 primary에서 읽어야 하는 구간 (캐시 적재, 캐시 키가 되는 버전 조회 등)
+// replica가 지연된 상태에서 적재하면 무효화 직후 이전 데이터가 다시 캐시되므로 사용
+// 커넥션은 첫 쿼리 시점에 고르므로(LazyConnectionDataSourceProxy) 트랜잭션 메서드 호출을 감싸면 됨
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (isForced()) {
+            return action.get();
+        }
+
+        FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            FORCED.remove();
+        }
+    }
+
+    public static boolean isForced() {
+        return Boolean.TRUE.equals(FORCED.get());
+    }
+}
@@ -0,0 +1,114 @@
+package com.cryptory.be.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쓰기 직후 일정 시간 동안 같은 사용자의 읽기를 primary로 보냄 (복제 지연 중 자기 글이 안 보이는 문제 방지)
+// 메모리 기록은 이 인스턴스에만 있으므로 고정 만료 시각을 쿠키로도 내려보내서
+// 다음 요청이 다른 인스턴스로 가도 primary로 읽게 함 (쿠키를 보내지 않는 클라이언트는 sticky session이 있어야 보장됨)
+public class ReadYourWritesTracker {
+
+    public static final String COOKIE_NAME = "rw_until";
+
+    // 한 요청에서 쓰기가 여러 번 일어나도 쿠키는 한 번만 추가
+    private static final String COOKIE_WRITTEN_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".cookieWritten";
+
+    private final long stickyWindowMillis;
+
+    // 사용자 -> primary 고정 만료 시각
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    public void markWrite() {
+        String user = currentUser();
+        if (user != null) {
+            long until = System.currentTimeMillis() + stickyWindowMillis;
+            stickyUntil.put(user, until);
+            writeCookie(until);
+        }
+    }
+
+    public boolean isSticky() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        Long until = stickyUntil.get(user);
+        return (until != null && until > now) || cookieUntil() > now;
+    }
+
+    // 만료된 항목 정리
+    @Scheduled(fixedDelayString = "${datasource.replica.sticky-cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    // 응답이 이미 나가기 시작했으면 쿠키를 붙일 수 없으므로 이 인스턴스의 메모리 기록만 남음
+    private void writeCookie(long until) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()
+                || attributes.getAttribute(COOKIE_WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(until));
+        cookie.setHttpOnly(true);
+        cookie.setPath("/");
+        cookie.setMaxAge((int) Math.max(1, (stickyWindowMillis + 999) / 1000));
+        response.addCookie(cookie);
+        attributes.setAttribute(COOKIE_WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    // 클라이언트가 보낸 값이므로 고정 시간보다 먼 미래 값은 무시 (임의로 primary에 계속 묶어 두지 못하게)
+    private long cookieUntil() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return 0L;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getCookies() == null) {
+            return 0L;
+        }
+
+        for (Cookie cookie : request.getCookies()) {
+            if (!COOKIE_NAME.equals(cookie.getName())) {
+                continue;
+            }
+            try {
+                long until = Long.parseLong(cookie.getValue());
+                return until <= System.currentTimeMillis() + stickyWindowMillis ? until : 0L;
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        }
+        return 0L;
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,91 @@
+package com.cryptory.be.global.datasource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// 복제 지연 측정: primary에 주기적으로 시각을 기록하고 replica에서 읽어서 차이를 계산 (DB 종류와 무관한 heartbeat 방식)
+// 지연이 허용치를 넘거나 replica에 접근할 수 없으면 읽기도 primary로 보냄
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    private static final String UPDATE_BEAT_SQL = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_BEAT_SQL = "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)";
+    private static final String SELECT_BEAT_SQL = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    // 처음 측정하기 전까지는 replica를 쓰지 않음
+    private volatile boolean healthy = false;
+
+    // 테이블 생성은 한 번만 (MySQL은 DDL이 매번 binlog에 기록됨)
+    private volatile boolean tableReady = false;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @PostConstruct
+    public void createTable() {
+        try {
+            primary.execute(CREATE_TABLE_SQL);
+            tableReady = true;
+        } catch (RuntimeException e) {
+            // primary 접근 실패 시 다음 heartbeat에서 다시 시도
+            log.warn("replica heartbeat 테이블 생성 실패", e);
+        }
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval-ms:1000}")
+    public void check() {
+        try {
+            beat();
+        } catch (RuntimeException e) {
+            log.warn("replica heartbeat 기록 실패", e);
+        }
+
+        boolean previous = healthy;
+        healthy = measure();
+        if (previous != healthy) {
+            log.info("replica 읽기 {}", healthy ? "재개" : "중단 (primary로 전환)");
+        }
+    }
+
+    private void beat() {
+        if (!tableReady) {
+            createTable();
+        }
+
+        long now = System.currentTimeMillis();
+        if (primary.update(UPDATE_BEAT_SQL, now) == 0) {
+            primary.update(INSERT_BEAT_SQL, now);
+        }
+    }
+
+    private boolean measure() {
+        try {
+            List<Long> beats = replica.queryForList(SELECT_BEAT_SQL, Long.class);
+            if (beats.isEmpty()) {
+                return false;
+            }
+            return System.currentTimeMillis() - beats.get(0) <= maxLagMillis;
+        } catch (RuntimeException e) {
+            log.debug("replica 지연 측정 실패", e);
+            return false;
+        }
+    }
+}
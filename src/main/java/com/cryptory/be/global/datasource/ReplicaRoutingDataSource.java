@@ -0,0 +1,35 @@
+package com.cryptory.be.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 replica, 나머지는 primary
+// LazyConnectionDataSourceProxy로 감싸서 트랜잭션 속성이 정해진 뒤(첫 쿼리 시점)에 커넥션을 고르도록 해야 함
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(ReadYourWritesTracker readYourWritesTracker, ReplicaLagMonitor replicaLagMonitor) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // 트랜잭션 밖(NOT_SUPPORTED, 스케줄러 등)의 조회는 primary
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.markWrite();
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (PrimaryReads.isForced() || readYourWritesTracker.isSticky() || !replicaLagMonitor.isHealthy()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+}
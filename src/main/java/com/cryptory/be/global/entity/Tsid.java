@@ -0,0 +1,16 @@
+package com.cryptory.be.global.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// 시간 순 정렬 가능한 ID (IDENTITY와 달리 INSERT 전에 ID가 정해져 JDBC batch insert 가능)
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface Tsid {
+}
@@ -0,0 +1,74 @@
+package com.cryptory.be.global.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.time.Instant;
+
+// TSID 형식 ID 생성기: [밀리초 41비트][노드 4비트][순번 8비트]
+// 53비트 안에 맞춰서 JSON으로 내려가도 JavaScript Number 정밀도(2^53)를 넘지 않게 함
+// 밀리초 41비트는 기준 시각부터 약 69년, 노드당 밀리초마다 256개
+public class TsidGenerator implements IdentifierGenerator {
+
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 4;
+    private static final int COUNTER_BITS = 8;
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+    public static final int MAX_NODES = 1 << NODE_BITS;
+
+    // 인스턴스별 노드 번호 (TsidNodeLease가 시작 시 할당, 할당 전이거나 임대가 만료되면 생성 거부)
+    // 노드가 겹치면 같은 밀리초에 같은 ID가 나오므로 임의 값으로 대신하지 않음
+    private static volatile long node = -1L;
+    private static volatile long validUntilNanos = 0L;
+
+    private static long lastMillis = -1L;
+    private static long counter = 0L;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    public static synchronized long next() {
+        if (node < 0 || System.nanoTime() - validUntilNanos > 0) {
+            throw new IllegalStateException("TSID 노드가 할당되지 않았거나 임대가 만료되었습니다");
+        }
+
+        long now = System.currentTimeMillis();
+
+        // 시계가 뒤로 가도 마지막 시각을 계속 써서 단조 증가 유지
+        if (now <= lastMillis) {
+            now = lastMillis;
+            if (++counter > MAX_COUNTER) {
+                // 같은 밀리초의 순번을 다 쓰면 다음 밀리초로 넘김
+                now = lastMillis + 1;
+                counter = 0L;
+            }
+        } else {
+            counter = 0L;
+        }
+        lastMillis = now;
+
+        return ((now - EPOCH) << (NODE_BITS + COUNTER_BITS)) | (node << COUNTER_BITS) | counter;
+    }
+
+    // validForMillis 동안 이 노드 번호로 생성 (임대 갱신 시 다시 호출)
+    public static void assignNode(int assigned, long validForMillis) {
+        if (assigned < 0 || assigned >= MAX_NODES) {
+            throw new IllegalArgumentException("TSID 노드 번호는 0~" + (MAX_NODES - 1) + " 범위여야 합니다: " + assigned);
+        }
+        validUntilNanos = System.nanoTime() + validForMillis * 1_000_000L;
+        node = assigned;
+    }
+
+    // next()와 같은 락을 잡아서 반환 이후에는 이 노드로 더 생성되지 않게 함
+    public static synchronized void releaseNode() {
+        node = -1L;
+    }
+
+    // 마지막으로 ID에 쓴 밀리초 (순번을 다 써서 현재 시각보다 앞설 수 있음)
+    public static synchronized long lastIssuedMillis() {
+        return lastMillis;
+    }
+}
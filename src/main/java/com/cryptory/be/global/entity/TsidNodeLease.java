@@ -0,0 +1,121 @@
+package com.cryptory.be.global.entity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 인스턴스마다 서로 다른 TSID 노드 번호 확보
+// TSID_NODE 환경 변수가 있으면 그 값을 고정으로 쓰고, 없으면 DB의 임대 테이블에서 비어 있는(만료된) 번호를 가져감
+// 같은 태스크 정의로 여러 개 뜨는 ECS에서는 환경 변수로 구분할 수 없으므로 임대 방식 사용
+// 갱신에 실패한 채 임대 시간이 지나면 다른 인스턴스가 번호를 가져갈 수 있으므로 생성기도 같은 시각에 생성을 멈춤
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TsidNodeLease {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS tsid_node_leases " +
+            "(node INT PRIMARY KEY, owner VARCHAR(64), expires_at BIGINT NOT NULL)";
+    private static final String INSERT_NODE_SQL = "INSERT INTO tsid_node_leases (node, owner, expires_at) VALUES (?, NULL, 0)";
+    private static final String CLAIM_SQL = "UPDATE tsid_node_leases SET owner = ?, expires_at = ? " +
+            "WHERE node = ? AND (expires_at < ? OR owner = ?)";
+    private static final String RENEW_SQL = "UPDATE tsid_node_leases SET expires_at = ? WHERE node = ? AND owner = ?";
+    // 바로 비우면 시계가 뒤처진 인스턴스가 같은 번호로 이미 쓴 밀리초의 ID를 다시 만들 수 있으므로
+    // 마지막 생성 시각 + 시계 오차 여유가 지날 때까지는 다른 인스턴스가 가져가지 못하게 함
+    private static final String RELEASE_SQL = "UPDATE tsid_node_leases SET owner = NULL, expires_at = ? " +
+            "WHERE node = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    // 인스턴스 간 시계 차이보다 충분히 길게
+    @Value("${tsid.lease-ms:60000}")
+    private long leaseMillis;
+
+    // 반납한 번호를 다른 인스턴스가 다시 쓰기까지 기다리는 시간 (인스턴스 간 시계 차이보다 길게)
+    @Value("${tsid.release-skew-ms:5000}")
+    private long releaseSkewMillis;
+
+    @Value("${TSID_NODE:}")
+    private String configuredNode;
+
+    private int node = -1;
+
+    @PostConstruct
+    protected void acquire() {
+        if (!configuredNode.isBlank()) {
+            node = Integer.parseInt(configuredNode.trim());
+            TsidGenerator.assignNode(node, Long.MAX_VALUE / 2_000_000L);
+            log.info("TSID 노드 고정 사용 ({})", node);
+            return;
+        }
+
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        for (int candidate = 0; candidate < TsidGenerator.MAX_NODES; candidate++) {
+            try {
+                jdbcTemplate.update(INSERT_NODE_SQL, candidate);
+            } catch (DataIntegrityViolationException e) {
+                // 이미 있는 번호 (다른 인스턴스가 먼저 만든 경우 포함)
+            }
+        }
+
+        for (int candidate = 0; candidate < TsidGenerator.MAX_NODES; candidate++) {
+            long now = System.currentTimeMillis();
+            if (jdbcTemplate.update(CLAIM_SQL, owner, now + leaseMillis, candidate, now, owner) == 1) {
+                node = candidate;
+                TsidGenerator.assignNode(node, leaseMillis);
+                log.info("TSID 노드 임대 ({})", node);
+                return;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 TSID 노드가 없습니다 (최대 " + TsidGenerator.MAX_NODES + "개 인스턴스)");
+    }
+
+    // 임대 시간의 1/3마다 갱신 (두 번 연속 실패해도 만료 전에 다시 시도)
+    @Scheduled(fixedDelayString = "#{${tsid.lease-ms:60000} / 3}")
+    public void renew() {
+        if (!configuredNode.isBlank()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            if (node < 0) {
+                acquire();
+                return;
+            }
+            if (jdbcTemplate.update(RENEW_SQL, startedAt + leaseMillis, node, owner) == 1) {
+                // 갱신 쿼리를 보내기 전 시각 기준으로 남은 시간을 계산해서 DB 쪽 만료보다 먼저 끝나게 함
+                TsidGenerator.assignNode(node, leaseMillis - (System.currentTimeMillis() - startedAt));
+                return;
+            }
+            log.error("TSID 노드 임대를 잃음 ({}), 다시 임대 시도", node);
+            TsidGenerator.releaseNode();
+            node = -1;
+            acquire();
+        } catch (RuntimeException e) {
+            log.warn("TSID 노드 임대 갱신 실패 ({})", node, e);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        TsidGenerator.releaseNode();
+        if (configuredNode.isBlank() && node >= 0) {
+            try {
+                long reusableAt = Math.max(System.currentTimeMillis(), TsidGenerator.lastIssuedMillis()) + releaseSkewMillis;
+                jdbcTemplate.update(RELEASE_SQL, reusableAt, node, owner);
+            } catch (RuntimeException e) {
+                log.warn("TSID 노드 반납 실패 ({})", node, e);
+            }
+        }
+    }
+}
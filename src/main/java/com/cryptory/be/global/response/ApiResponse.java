@@ -4,13 +4,13 @@ package com.cryptory.be.global.response;
 import com.cryptory.be.global.exception.CustomException;
 import com.cryptory.be.global.exception.ErrorCode;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
 @Getter
 public class ApiResponse<T> {
@@ -41,6 +41,13 @@ public class ApiResponse<T> {
         this.results = results;
     }
 
+    // 응답 코드와 다중 데이터, 다음 페이지 커서 반환
+    public ApiResponse(HttpStatus httpStatus, List<T> results, String nextCursor) {
+        this.status = new Status(httpStatus);
+        this.metadata = new Metadata(results.size(), nextCursor);
+        this.results = results;
+    }
+
     // 에러 처리
     public ApiResponse(CustomException e) {
         this.status = new Status(e.getErrorCode());
@@ -66,8 +73,19 @@ public class ApiResponse<T> {
 
     // 결과 데이터 개수 + a 처리 가능
     @Getter
-    @AllArgsConstructor
     private class Metadata {
         private int resultCount = 0;
+
+        @JsonInclude(NON_NULL)
+        private String nextCursor;
+
+        public Metadata(int resultCount) {
+            this.resultCount = resultCount;
+        }
+
+        public Metadata(int resultCount, String nextCursor) {
+            this.resultCount = resultCount;
+            this.nextCursor = nextCursor;
+        }
     }
 }
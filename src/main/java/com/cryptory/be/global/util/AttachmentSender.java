@@ -0,0 +1,213 @@
+package com.cryptory.be.global.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 저장 파일을 그대로 전송: 파일 내용은 힙에 올리지 않고 FileChannel.transferTo(sendfile)로 소켓에 넘김
+// 저장 이름(내용 해시 또는 UUID, 축소본은 _w{폭})은 내용이 바뀌지 않으므로 강한 ETag + immutable 캐시로 응답
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentSender {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    // 이 크기 이상이면 컨테이너 sendfile에 맡김 (작은 파일은 바로 쓰는 편이 더 빠름)
+    @Value("${attach.sendfile.min-size:49152}")
+    private long sendfileMinSize;
+
+    // 축소본이 아직 없어 원본으로 대신 응답할 때의 캐시 시간 (생성 후 같은 URL이 축소본으로 바뀜)
+    @Value("${attach.fallback.max-age-seconds:60}")
+    private long fallbackMaxAge;
+
+    public void send(String storedDir, Integer width,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path base = Paths.get(FileUtils.getBaseDir()).toAbsolutePath().normalize();
+        Path original = base.resolve(stripLeadingSlash(storedDir)).normalize();
+        if (!original.startsWith(base) || original.equals(base)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 날짜 폴더에서 분산 폴더로 이관된 파일은 기존 경로로도 제공 (캐시된 응답, 외부 링크 등)
+        if (!Files.isRegularFile(original)) {
+            String shardedDir = StorageLayout.shardedDirOf(storedDir);
+            Path moved = shardedDir == null ? null : base.resolve(stripLeadingSlash(shardedDir)).normalize();
+            if (moved == null || !moved.startsWith(base) || !Files.isRegularFile(moved)) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            storedDir = shardedDir;
+            original = moved;
+        }
+
+        // ?w= 요청 폭 이상인 가장 작은 축소본 (없으면 원본)
+        Path file = original;
+        boolean fallback = false;
+        if (width != null && width > 0) {
+            for (int candidate : imageVariantGenerator.getWidths().stream().sorted().toList()) {
+                if (candidate < width) {
+                    continue;
+                }
+                Path variant = base.resolve(stripLeadingSlash(
+                        ImageVariantGenerator.variantPath(storedDir, candidate))).normalize();
+                if (variant.startsWith(base) && Files.isRegularFile(variant) && Files.size(variant) > 0) {
+                    file = variant;
+                    break;
+                }
+                fallback = true;
+            }
+            fallback = fallback && file.equals(original);
+        }
+
+        String fileName = file.getFileName().toString();
+        String etag = "\"" + fileName.replaceAll("[^A-Za-z0-9._-]", "") + "\"";
+        long length = Files.size(file);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                fallback ? "public, max-age=" + fallbackMaxAge : IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isRangeApplicable(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            ByteRange requested = resolveRange(range, length);
+            if (requested != null) {
+                if (!requested.isSatisfiable(length)) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = requested.start();
+                end = requested.end();
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 비워 두고 커넥터가 소켓으로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(file, start, count, response);
+    }
+
+    private void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // 전송 중 파일이 줄어든 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            // 클라이언트가 중간에 끊은 경우 (이미 헤더가 나간 뒤라 에러 응답 불가)
+            log.debug("첨부 파일 전송 중단: {}", file, e);
+        }
+    }
+
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Range 헤더 해석, null이면 전체 응답
+    // 형식이 잘못된 Range는 무시하고, 여러 구간(multipart/byteranges)은 지원하지 않으므로 전체 응답
+    static ByteRange resolveRange(String range, long length) {
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return null;
+        }
+
+        HttpRange requested = ranges.get(0);
+        try {
+            return new ByteRange(requested.getRangeStart(length), requested.getRangeEnd(length));
+        } catch (IllegalArgumentException e) {
+            return new ByteRange(length, length - 1);
+        }
+    }
+
+    // If-Range가 없거나 현재 ETag와 같을 때만 부분 응답 (날짜 형식은 Last-Modified를 쓰지 않으므로 전체 응답)
+    static boolean isRangeApplicable(String ifRange, String etag) {
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    private String stripLeadingSlash(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    // 응답할 바이트 구간 (양 끝 포함)
+    record ByteRange(long start, long end) {
+
+        boolean isSatisfiable(long length) {
+            return start < length && end >= start;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.cryptory.be.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 고정 크기 Bloom filter (스레드 안전)
+// 예상 삽입 수와 목표 오탐률로 비트 수/해시 수를 정하고, 이후 메모리는 늘어나지 않음
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, size);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = fnv1a(key);
+        long h2 = mix(h1);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 새로 세팅된 비트가 하나라도 있으면 true (= 처음 보는 키)
+    public boolean put(String key) {
+        long h1 = fnv1a(key);
+        long h2 = mix(h1);
+        boolean changed = false;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+
+            changed |= (current & mask) == 0;
+        }
+        return changed;
+    }
+
+    // 현재 채워진 비트 비율 기준 오탐률 추정치
+    public double expectedFpp() {
+        long bitCount = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            bitCount += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) bitCount / bitSize, hashCount);
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    private static long fnv1a(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value | 1L;
+    }
+}
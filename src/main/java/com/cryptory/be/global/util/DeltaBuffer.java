@@ -0,0 +1,45 @@
+package com.cryptory.be.global.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ID별 증감분을 메모리에 모아두는 버퍼 (write-behind 카운터 공용)
+// 더하기(merge)와 떼어내기(remove)가 모두 키 단위 원자 연산이라 떼어내는 순간의 증감분도 유실되지 않음
+// (떼어낸 뒤의 증감분은 새 항목으로 쌓여서 다음 주기에 반영)
+public class DeltaBuffer {
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        if (delta != 0) {
+            pending.merge(id, delta, (previous, added) -> previous + added == 0 ? null : previous + added);
+        }
+    }
+
+    // 아직 반영되지 않은 증감분
+    public long get(Long id) {
+        return pending.getOrDefault(id, 0L);
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    // 모인 증감분을 꺼내고 비움
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null && delta != 0) {
+                deltas.put(id, delta);
+            }
+        }
+        return deltas;
+    }
+
+    // 반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
@@ -7,15 +7,25 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Slf4j
 @Component
 public class FileUtils {
 
+    @Value("${file.upload.layout:SHARDED}")
+    private StorageLayout layout;
+
     // window, mac 바탕화면 경로 지정
     // S3 등 외부 저장소 사용 시 yml에 경로 설정
 //     public static String getBaseDir() {
@@ -52,38 +62,125 @@ public class FileUtils {
         log.info("baseDir: {}", getBaseDir());
 
         try {
-            String dateFolder = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
-            String uploadDir = Paths.get(getBaseDir(), dateFolder).toString();
+            String storedDir = newStoredDir(file.getOriginalFilename());
+            log.info("storedDir: {}", storedDir);
+
+            file.transferTo(resolve(storedDir));
+
+            return storedDir;
+        } catch (IOException e) {
+            log.error("파일 저장 실패", e);
+            throw new RuntimeException("파일 저장 중 오류 발생");
+        }
+    }
 
-            File directory = new File(uploadDir);
-            if (!directory.exists()) {
-                directory.mkdirs();
+    // 내용 해시(SHA-256) 기준 저장: 같은 내용이 이미 있으면 임시 파일만 지우고 기존 경로 반환 (두 번 쓰지 않음)
+    // 경로: /blobs/{해시 앞 2자}/{다음 2자}/{해시}{확장자}
+    // 기존 blob은 크기와 해시가 모두 맞을 때만 재사용하고, 어긋나면 이번 내용으로 교체
+    public String storeBlob(Path staged, String contentHash, String originalFilename) {
+        String storedDir = "/blobs/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/"
+                + contentHash + getExtension(originalFilename);
+        Path target = resolve(storedDir).toPath();
+
+        try {
+            if (Files.exists(target)) {
+                if (Files.size(target) == Files.size(staged) && contentHash.equals(sha256(target))) {
+                    Files.deleteIfExists(staged);
+                    return storedDir;
+                }
+                log.warn("저장된 blob 내용이 해시와 달라 교체 (hash: {})", contentHash);
             }
 
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf(".")); // 확장자 포함 (jpg, png 등)
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                // 다른 파일 시스템이면 복사 후 삭제 (같은 내용이라 동시에 덮어써도 무방)
+                Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING);
             }
+            return storedDir;
+        } catch (IOException e) {
+            log.error("파일 저장 실패 (hash: {})", contentHash, e);
+            throw new RuntimeException("파일 저장 중 오류 발생");
+        }
+    }
 
-            log.info("extension: {}", extension);
+    // 파일 내용 SHA-256 (hex)
+    public static String sha256(Path path) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
 
-            String storedFilename = UUID.randomUUID() + extension;
-            log.info("storedFilename: {}", storedFilename);
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                messageDigest.update(chunk, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
 
-            String filePath = Paths.get(uploadDir, storedFilename).toString();
-            log.info("filePath: {}", filePath);
+    public boolean existsFile(String storedDir) {
+        return resolve(storedDir).exists();
+    }
+
+    // 저장 규칙(날짜 폴더 또는 해시 분산 폴더) + UUID 파일명 (확장자 유지), 폴더가 없으면 생성
+    private String newStoredDir(String originalFilename) {
+        String storedDir = layout.storedDir(UUID.randomUUID() + getExtension(originalFilename));
 
-            File dest = new File(filePath);
-            file.transferTo(dest);
+        File directory = resolve(storedDir).getParentFile();
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+
+        return storedDir;
+    }
+
+    // 기존 파일을 새 경로에서도 보이게 함 (하드 링크, 지원하지 않으면 복사), 이미 있으면 그대로 둠
+    // 옮기는 동안 기존 경로로 오는 요청이 끊기지 않도록 원본은 참조를 바꾼 뒤 따로 삭제
+    public boolean linkFile(String storedDir, String targetDir) {
+        Path source = resolve(storedDir).toPath();
+        Path target = resolve(targetDir).toPath();
+
+        try {
+            if (Files.exists(target)) {
+                return true;
+            }
+            if (!Files.exists(source)) {
+                return false;
+            }
 
-            return "/" + dateFolder + "/" + storedFilename;
+            Files.createDirectories(target.getParent());
+            try {
+                Files.createLink(target, source);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+            }
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return true;
         } catch (IOException e) {
-            log.error("파일 저장 실패", e);
-            throw new RuntimeException("파일 저장 중 오류 발생");
+            log.error("파일 링크 실패 ({} -> {})", storedDir, targetDir, e);
+            return false;
         }
     }
 
+    // 확장자 포함 (.jpg, .png 등), 없으면 빈 문자열
+    private String getExtension(String originalFilename) {
+        if (originalFilename != null && originalFilename.contains(".")) {
+            return originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return "";
+    }
+
+    private File resolve(String storedDir) {
+        return new File(Paths.get(getBaseDir(), storedDir).toString());
+    }
+
     // 파일 삭제
     public boolean deleteFile(String storedFilename) {
         File file = new File(Paths.get(getBaseDir(), storedFilename).toString());
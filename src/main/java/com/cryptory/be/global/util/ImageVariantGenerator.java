@@ -0,0 +1,180 @@
+package com.cryptory.be.global.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 이미지 축소본(가로 폭 기준) 생성: 요청 스레드를 막지 않도록 크기가 제한된 전용 스레드 풀에서 처리
+// 축소본은 원본 옆에 {파일명}_w{폭}{확장자}로 저장 (같은 내용의 blob이면 이미 있는 축소본을 그대로 사용)
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    @Value("${image.variant.widths:160,480,960}")
+    private List<Integer> widths;
+
+    @Value("${image.variant.threads:2}")
+    private int threads;
+
+    @Value("${image.variant.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 압축 폭탄 방지용 원본 픽셀 수 상한
+    @Value("${image.variant.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    protected void open() {
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    public List<Integer> getWidths() {
+        return widths;
+    }
+
+    // 큐가 가득 차면 건너뜀 (원본은 그대로 제공되므로 요청을 막지 않음)
+    public void generateAsync(String storedDir, Consumer<List<Integer>> onGenerated) {
+        try {
+            executor.execute(() -> {
+                List<Integer> generated = generate(storedDir);
+                if (!generated.isEmpty()) {
+                    onGenerated.accept(generated);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 축소본 생성 대기열 초과, 건너뜀 ({})", storedDir);
+        }
+    }
+
+    // 원본보다 작은 폭의 축소본을 만들고 사용할 수 있는 폭 목록 반환 (이미지가 아니면 빈 목록)
+    public List<Integer> generate(String storedDir) {
+        File source = new File(Paths.get(FileUtils.getBaseDir(), storedDir).toString());
+        List<Integer> available = new ArrayList<>();
+
+        try {
+            String formatName = readFormat(source);
+            if (formatName == null) {
+                return available;
+            }
+
+            BufferedImage image = null;
+            for (int width : widths) {
+                File target = new File(Paths.get(FileUtils.getBaseDir(), variantPath(storedDir, width)).toString());
+                if (target.exists()) {
+                    available.add(width);
+                    continue;
+                }
+
+                if (image == null) {
+                    image = ImageIO.read(source);
+                    if (image == null) {
+                        return available;
+                    }
+                }
+                if (width >= image.getWidth()) {
+                    continue;
+                }
+
+                write(resize(image, width), formatName, target);
+                available.add(width);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 축소본 생성 실패 ({})", storedDir, e);
+        }
+        return available;
+    }
+
+    // /blobs/aa/bb/hash.png -> /blobs/aa/bb/hash_w160.png
+    public static String variantPath(String storedDir, int width) {
+        int dot = storedDir.lastIndexOf('.');
+        int slash = storedDir.lastIndexOf('/');
+        if (dot <= slash) {
+            return storedDir + "_w" + width;
+        }
+        return storedDir.substring(0, dot) + "_w" + width + storedDir.substring(dot);
+    }
+
+    // 이미지 형식 이름 (이미지가 아니거나 너무 크면 null), 헤더만 읽어서 판단
+    private String readFormat(File source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                return pixels > maxSourcePixels ? null : reader.getFormatName();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 임시 파일에 쓴 뒤 이동해서 반쯤 쓰인 축소본이 제공되지 않도록
+    private void write(BufferedImage image, String formatName, File target) throws IOException {
+        Path temp = Files.createTempFile(target.getParentFile().toPath(), ".variant", ".tmp");
+        try {
+            if (!ImageIO.write(image, formatName, temp.toFile())) {
+                throw new IOException("지원하지 않는 이미지 형식: " + formatName);
+            }
+            Files.move(temp, target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
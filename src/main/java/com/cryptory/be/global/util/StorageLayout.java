@@ -0,0 +1,38 @@
+package com.cryptory.be.global.util;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+// 업로드 파일 저장 경로 규칙 (file.upload.layout)
+public enum StorageLayout {
+
+    // /{yyyy-MM-dd}/{파일명}: 하루치 파일이 한 폴더에 모임
+    DATED {
+        @Override
+        public String storedDir(String fileName) {
+            return "/" + new SimpleDateFormat("yyyy-MM-dd").format(new Date()) + "/" + fileName;
+        }
+    },
+
+    // /files/{파일명 앞 2자}/{다음 2자}/{파일명}: UUID 앞자리(16진수)로 65,536개 폴더에 고르게 분산
+    SHARDED {
+        @Override
+        public String storedDir(String fileName) {
+            return SHARDED_ROOT + fileName.substring(0, 2) + "/" + fileName.substring(2, 4) + "/" + fileName;
+        }
+    };
+
+    public static final String SHARDED_ROOT = "/files/";
+
+    public abstract String storedDir(String fileName);
+
+    // 기존 경로(날짜 폴더)의 파일이 이관될 위치, 파일명만으로 정해지므로 이관 후에도 기존 경로를 새 위치로 연결 가능
+    // 이미 분산 폴더이거나 파일명이 너무 짧으면 null
+    public static String shardedDirOf(String storedDir) {
+        String fileName = storedDir.substring(storedDir.lastIndexOf('/') + 1);
+        if (storedDir.startsWith(SHARDED_ROOT) || fileName.length() < 4) {
+            return null;
+        }
+        return SHARDED.storedDir(fileName);
+    }
+}
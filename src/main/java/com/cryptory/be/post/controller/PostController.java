@@ -2,15 +2,27 @@ package com.cryptory.be.post.controller;
 
 import com.cryptory.be.global.response.ApiResponse;
 import com.cryptory.be.post.dto.*;
+import com.cryptory.be.post.service.CommentService;
+import com.cryptory.be.post.service.PostPageCache;
 import com.cryptory.be.post.service.PostService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @Slf4j
@@ -20,29 +32,86 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final CommentService commentService;
+    private final PostPageCache postPageCache;
+    private final ObjectMapper objectMapper;
 
+    @Value("${post.http-cache.max-age-seconds:5}")
+    private long httpCacheMaxAgeSeconds;
+
+    // cursor 파라미터가 있으면 커서 모드(빈 값이면 첫 페이지), 없으면 기존 페이지 번호 모드
     @GetMapping
-    public ApiResponse<PostListDto> getPosts(@PathVariable("coinId") Long coinId,
-                                             @RequestParam(defaultValue = "0") int page,
-                                             @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<?> getPosts(@PathVariable("coinId") Long coinId,
+                                      @RequestParam(defaultValue = "0") int page,
+                                      @RequestParam(defaultValue = "10") int size,
+                                      @RequestParam(required = false) String cursor,
+                                      WebRequest webRequest) {
+        // 게시판 버전이 같으면 목록 조회/직렬화 없이 304
+        PostVersionDto version = postService.getBoardVersion(coinId);
+        String etag = "W/\"c" + coinId + "-" + version.getTag() + "\"";
+        if (isNotModified(webRequest, etag, version)) {
+            return notModified(etag);
+        }
+
+        if (cursor != null) {
+            PostSliceDto slice = postService.getPostsByCursor(coinId, cursor, size);
+            return ok(etag, version).body(new ApiResponse<>(HttpStatus.OK, slice.getPosts(), slice.getNextCursor()));
+        }
+
+        // 앞쪽 페이지는 직렬화된 JSON을 캐시해서 그대로 응답
+        if (postPageCache.isCacheable(page)) {
+            byte[] body = postPageCache.get(coinId, version.getVersion(), page, size, () -> serialize(
+                    new ApiResponse<>(HttpStatus.OK, postService.getPosts(coinId, page, size))));
+
+            return ok(etag, version)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+
         PostListDto posts = postService.getPosts(coinId, page, size);
 
+        return ok(etag, version).body(new ApiResponse<>(HttpStatus.OK, posts));
+    }
+
+    @GetMapping("/search")
+    public ApiResponse<PostDto> searchPosts(@PathVariable("coinId") Long coinId,
+                                            @RequestParam("q") String keyword,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "10") int size) {
+        List<PostDto> posts = postService.searchPosts(coinId, keyword, page, size);
+        return new ApiResponse<>(HttpStatus.OK, posts);
+    }
+
+    @GetMapping("/trending")
+    public ApiResponse<PostDto> getTrendingPosts(@PathVariable("coinId") Long coinId,
+                                                 @RequestParam(defaultValue = "10") int size) {
+        List<PostDto> posts = postService.getTrendingPosts(coinId, size);
         return new ApiResponse<>(HttpStatus.OK, posts);
     }
 
     @GetMapping("/{postId}")
-    public ApiResponse<PostDetailDto> getPost(@PathVariable("coinId") Long coinId,
-                                                 @PathVariable("postId") Long postId) {
-        PostDetailDto post = postService.getPost(coinId, postId);
-        return new ApiResponse<>(HttpStatus.OK, post);
+    public ResponseEntity<?> getPost(Principal principal,
+                                     HttpServletRequest request,
+                                     WebRequest webRequest,
+                                     @PathVariable("coinId") Long coinId,
+                                     @PathVariable("postId") Long postId) {
+        // 게시글 버전과 집계 값이 같으면 응답 생성 없이 304 (조회수도 집계하지 않음)
+        PostVersionDto version = postService.getPostVersion(postId);
+        if (isNotModified(webRequest, detailETag(postId, version), version)) {
+            return notModified(detailETag(postId, version));
+        }
+
+        // 이번 조회로 조회수가 바뀌므로 ETag는 응답 본문 기준으로 다시 계산
+        PostDetailDto post = postService.getPost(coinId, postId, getViewerKey(principal, request));
+        PostVersionDto responseVersion = PostVersionDto.ofDetail(version.getVersion(), version.getLastModifiedAt(), post);
+        return ok(detailETag(postId, responseVersion), responseVersion).body(new ApiResponse<>(HttpStatus.OK, post));
     }
 
     @PostMapping
     public ApiResponse<PostDto> createPost(Principal principal,
                                               @PathVariable("coinId") Long coinId,
-                                              @RequestPart(value = "post") CreatePostDto createPostDto,
-                                              @RequestPart(required = false) List<MultipartFile> files) {
-        PostDto post = postService.createPost(coinId, principal.getName(), createPostDto, files);
+                                              @RequestBody @Valid CreatePostDto createPostDto) {
+        PostDto post = postService.createPost(coinId, principal.getName(), createPostDto);
         return new ApiResponse<>(HttpStatus.CREATED, post);
     }
 
@@ -63,9 +132,84 @@ public class PostController {
     }
 
     @GetMapping("/{postId}/comments")
-    public ApiResponse<?> getComments(@PathVariable("coinId") Long coinId,
-                                      @PathVariable("postId") Long postId) {
+    public ApiResponse<CommentDto> getComments(@PathVariable("coinId") Long coinId,
+                                               @PathVariable("postId") Long postId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int size) {
+        CommentSliceDto slice = commentService.getComments(postId, cursor, size);
+        return new ApiResponse<>(HttpStatus.OK, slice.getComments(), slice.getNextCursor());
+    }
+
+    @PostMapping("/{postId}/comments")
+    public ApiResponse<CommentDto> createComment(Principal principal,
+                                                 @PathVariable("coinId") Long coinId,
+                                                 @PathVariable("postId") Long postId,
+                                                 @RequestBody @Valid CreateCommentDto createCommentDto) {
+        CommentDto comment = commentService.createComment(postId, principal.getName(), createCommentDto);
+        return new ApiResponse<>(HttpStatus.CREATED, comment);
+    }
+
+    @DeleteMapping("/{postId}/comments/{commentId}")
+    public ApiResponse<?> deleteComment(Principal principal,
+                                        @PathVariable("coinId") Long coinId,
+                                        @PathVariable("postId") Long postId,
+                                        @PathVariable("commentId") Long commentId) {
+        commentService.deleteComment(postId, commentId, principal.getName());
+        return new ApiResponse<>(HttpStatus.OK, "댓글을 삭제했습니다.");
+    }
+
+    private String detailETag(Long postId, PostVersionDto version) {
+        return "W/\"p" + postId + "-" + version.getTag() + "\"";
+    }
+
+    private boolean isNotModified(WebRequest webRequest, String etag, PostVersionDto version) {
+        return webRequest.checkNotModified(etag, toEpochMilli(version.getLastModifiedAt()));
+    }
+
+    private ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl())
+                .build();
+    }
+
+    private ResponseEntity.BodyBuilder ok(String etag, PostVersionDto version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl());
+
+        long lastModified = toEpochMilli(version.getLastModifiedAt());
+        if (lastModified > 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    // 엣지 캐시가 짧게 보관하고 이후에는 ETag로 재검증
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(httpCacheMaxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate();
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private byte[] serialize(ApiResponse<?> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 목록 직렬화 실패", e);
+        }
+    }
 
-        return new ApiResponse<>(HttpStatus.OK, "등록된 댓글이 없습니다.");
+    // 조회수 중복 제거 키: 로그인 사용자는 userId, 비로그인은 IP
+    // 프록시 헤더는 server.forward-headers-strategy로 신뢰 프록시가 붙인 값만 remoteAddr에 반영됨
+    private String getViewerKey(Principal principal, HttpServletRequest request) {
+        if (principal != null) {
+            return "u:" + principal.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
     }
 }
@@ -0,0 +1,44 @@
+package com.cryptory.be.post.controller;
+
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.post.dto.PostLikeDto;
+import com.cryptory.be.post.service.PostLikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/coins/{coinId}/posts/{postId}/likes")
+public class PostLikeController {
+
+    private final PostLikeService postLikeService;
+
+    @GetMapping
+    public ApiResponse<PostLikeDto> getLike(Principal principal,
+                                            @PathVariable("coinId") Long coinId,
+                                            @PathVariable("postId") Long postId) {
+        PostLikeDto like = postLikeService.getLike(postId, principal.getName());
+        return new ApiResponse<>(HttpStatus.OK, like);
+    }
+
+    @PostMapping
+    public ApiResponse<PostLikeDto> like(Principal principal,
+                                         @PathVariable("coinId") Long coinId,
+                                         @PathVariable("postId") Long postId) {
+        PostLikeDto like = postLikeService.like(postId, principal.getName());
+        return new ApiResponse<>(HttpStatus.CREATED, like);
+    }
+
+    @DeleteMapping
+    public ApiResponse<PostLikeDto> unlike(Principal principal,
+                                           @PathVariable("coinId") Long coinId,
+                                           @PathVariable("postId") Long postId) {
+        PostLikeDto like = postLikeService.unlike(postId, principal.getName());
+        return new ApiResponse<>(HttpStatus.OK, like);
+    }
+}
@@ -0,0 +1,66 @@
+package com.cryptory.be.post.controller;
+
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.post.dto.InitiateUploadDto;
+import com.cryptory.be.post.dto.PostUploadDto;
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import com.cryptory.be.post.service.PostUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.security.Principal;
+
+// 첨부 파일 분할 업로드 (완료한 uploadId를 게시글 작성 시 첨부)
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/uploads")
+public class PostUploadController {
+
+    private final PostUploadService postUploadService;
+
+    @PostMapping
+    public ApiResponse<PostUploadDto> initiate(Principal principal,
+                                               @RequestBody @Valid InitiateUploadDto initiateUploadDto) {
+        PostUploadDto upload = postUploadService.initiate(principal.getName(), initiateUploadDto);
+        return new ApiResponse<>(HttpStatus.CREATED, upload);
+    }
+
+    // 이어받기 위치(receivedSize) 확인
+    @GetMapping("/{uploadId}")
+    public ApiResponse<PostUploadDto> getUpload(Principal principal,
+                                                @PathVariable("uploadId") Long uploadId) {
+        PostUploadDto upload = postUploadService.getUpload(principal.getName(), uploadId);
+        return new ApiResponse<>(HttpStatus.OK, upload);
+    }
+
+    // 요청 본문(바이트 그대로)을 offset 위치에 기록
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ApiResponse<PostUploadDto> writeChunk(Principal principal,
+                                                 HttpServletRequest request,
+                                                 @PathVariable("uploadId") Long uploadId,
+                                                 @RequestParam("offset") long offset) {
+        try {
+            PostUploadDto upload = postUploadService.writeChunk(principal.getName(), uploadId, offset,
+                    request.getContentLengthLong(), request.getInputStream());
+            return new ApiResponse<>(HttpStatus.OK, upload);
+        } catch (IOException e) {
+            log.error("업로드 조각 수신 실패 (uploadId: {})", uploadId, e);
+            throw new PostException(PostErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ApiResponse<PostUploadDto> complete(Principal principal,
+                                               @PathVariable("uploadId") Long uploadId) {
+        PostUploadDto upload = postUploadService.complete(principal.getName(), uploadId);
+        return new ApiResponse<>(HttpStatus.OK, upload);
+    }
+}
@@ -1,9 +1,11 @@
 package com.cryptory.be.post.domain;
 
 import com.cryptory.be.global.entity.BaseTimeEntity;
+import com.cryptory.be.global.entity.Tsid;
 import com.cryptory.be.user.domain.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -21,11 +23,14 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글별 댓글 keyset 조회: post_id 동등 조건 + is_deleted 필터 + (created_at, id) 정렬
+        @Index(name = "idx_comments_post_deleted_created", columnList = "post_id, is_deleted, created_at, id")
+})
 public class Comments extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @Column(columnDefinition = "TEXT")
@@ -40,4 +45,21 @@ public class Comments extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
+
+    @Builder
+    public Comments(String content, User user, Post post) {
+        this.content = content;
+        this.user = user;
+        this.post = post;
+
+        this.isDeleted = false;
+    }
+
+    public void delete() {
+        this.isDeleted = true;
+    }
+
+    public boolean isNotDeleted() {
+        return !this.isDeleted;
+    }
 }
@@ -1,6 +1,7 @@
 package com.cryptory.be.post.domain;
 
 import com.cryptory.be.global.entity.BaseTimeEntity;
+import com.cryptory.be.global.entity.Tsid;
 import com.cryptory.be.user.domain.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -11,16 +12,23 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 코인 게시판 목록/커서 조회: coin_id 동등 조건 + is_deleted 필터 + (created_at, id) 정렬
+        @Index(name = "idx_posts_coin_deleted_created", columnList = "coin_id, is_deleted, created_at, id"),
+        // 코인 구분 없는 최근 게시글 범위 조회 (인기 게시글 점수 복원)
+        @Index(name = "idx_posts_created", columnList = "created_at, id"),
+        // 변경 시각 순 조회 (검색 색인 따라잡기)
+        @Index(name = "idx_posts_updated", columnList = "updated_at, id")
+})
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     private String title;
 
-    private String body;
+    // 본문은 PostBody(post_bodies)에 따로 저장
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "user_id")
@@ -30,19 +38,28 @@ public class Post extends BaseTimeEntity {
 
     private Long likeCnt = 0L;
 
+    // 댓글 수 (PostCommentCounter가 증감분을 모아서 반영)
+    @Column(columnDefinition = "bigint default 0")
+    private Long commentCnt = 0L;
+
     private boolean isDeleted = false;
 
     private Long coinId;
 
+    // 상세 캐시/ETag 용 버전 (기존 행은 0으로 채움)
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     @Builder
-    public Post(String title, String body, User user, Long coinId) {
+    public Post(String title, User user, Long coinId) {
         this.title = title;
-        this.body = body;
         this.user = user;
         this.coinId = coinId;
 
         this.viewCnt = 0L;
         this.likeCnt = 0L;
+        this.commentCnt = 0L;
         this.isDeleted = false;
     }
 
@@ -54,13 +71,8 @@ public class Post extends BaseTimeEntity {
         return !this.isDeleted;
     }
 
-    public void update(String title, String body) {
+    public void update(String title) {
         this.title = title != null ? title : this.title;
-        this.body = body != null ? body : this.body;
-    }
-
-    public void increaseViewCnt() {
-        this.viewCnt++;
     }
 
 }
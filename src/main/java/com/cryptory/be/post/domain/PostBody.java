@@ -0,0 +1,50 @@
+package com.cryptory.be.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 게시글 본문 (목록/엔티티 조회 시 본문을 읽지 않도록 posts와 분리, 게시글 ID를 그대로 키로 사용)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "post_bodies")
+public class PostBody implements Persistable<Long> {
+
+    @Id
+    private Long postId;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    // ID를 직접 지정하므로 save 시 merge(SELECT) 대신 persist 되도록 새 엔티티 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    public PostBody(Long postId, String body) {
+        this.postId = postId;
+        this.body = body;
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void update(String body) {
+        this.body = body != null ? body : this.body;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cryptory.be.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 코인별 게시글 수 (삭제되지 않은 게시글 기준)
+// 목록 조회마다 COUNT(*)를 실행하지 않도록 게시글 생성/삭제 트랜잭션에서 함께 갱신
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "coin_post_counts")
+public class PostCount {
+
+    @Id
+    private Long coinId;
+
+    private Long postCount = 0L;
+
+    // 게시판 내용이 바뀔 때마다 증가 (목록 ETag 용)
+    @Column(columnDefinition = "bigint default 0")
+    private Long boardVersion = 1L;
+
+    private LocalDateTime lastModifiedAt;
+
+    public PostCount(Long coinId, Long postCount) {
+        this.coinId = coinId;
+        this.postCount = postCount;
+        this.boardVersion = 1L;
+        this.lastModifiedAt = LocalDateTime.now();
+    }
+}
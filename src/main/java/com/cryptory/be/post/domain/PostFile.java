@@ -1,6 +1,7 @@
 package com.cryptory.be.post.domain;
 
 import com.cryptory.be.global.entity.BaseTimeEntity;
+import com.cryptory.be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,11 +11,14 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "post_files")
+@Table(name = "post_files", indexes = {
+        // 같은 내용(blob)을 참조하는 파일 수 = 참조 카운트
+        @Index(name = "idx_post_files_content_hash", columnList = "content_hash")
+})
 public class PostFile extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @Column(nullable = false)
@@ -33,12 +37,21 @@ public class PostFile extends BaseTimeEntity {
     // todo: enum 파일 타입 변경
     private String fileType;
 
+    // 내용 SHA-256 (hex), 같은 값이면 같은 blob을 공유 (기존 파일은 null)
+    @Column(length = 64)
+    private String contentHash;
+
+    // 생성된 이미지 축소본 폭 (쉼표 구분, 예: "160,480"), 생성 전이나 이미지가 아니면 null
+    private String variantWidths;
+
     @Builder
-    public PostFile(String originalFilename, String storedFilename, String storedDir, Post post, String fileType) {
+    public PostFile(String originalFilename, String storedFilename, String storedDir, Post post, String fileType,
+                    String contentHash) {
         this.originalFilename = originalFilename;
         this.storedFilename = storedFilename;
         this.storedDir = storedDir;
         this.post = post;
         this.fileType = fileType;
+        this.contentHash = contentHash;
     }
 }
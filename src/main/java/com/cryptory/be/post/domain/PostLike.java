@@ -0,0 +1,31 @@
+package com.cryptory.be.post.domain;
+
+import com.cryptory.be.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글 좋아요 (사용자당 1회, 유니크 제약으로 동시 요청 중복 방지)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "post_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"})
+})
+public class PostLike extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long postId;
+
+    // User 대리키 (users.id)
+    private Long userId;
+
+    public PostLike(Long postId, Long userId) {
+        this.postId = postId;
+        this.userId = userId;
+    }
+}
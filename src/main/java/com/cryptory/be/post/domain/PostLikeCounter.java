@@ -0,0 +1,33 @@
+package com.cryptory.be.post.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글 좋아요 수 샤드
+// 게시글 하나의 좋아요 수를 여러 행에 나눠 증감해서 인기 게시글이 단일 행 경합 지점이 되지 않게 함
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "post_like_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_like_counters_post_shard", columnNames = {"post_id", "shard"})
+})
+public class PostLikeCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long postId;
+
+    private int shard;
+
+    private Long cnt = 0L;
+
+    public PostLikeCounter(Long postId, int shard, Long cnt) {
+        this.postId = postId;
+        this.shard = shard;
+        this.cnt = cnt;
+    }
+}
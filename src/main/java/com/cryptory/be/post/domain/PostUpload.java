@@ -0,0 +1,74 @@
+package com.cryptory.be.post.domain;
+
+import com.cryptory.be.global.entity.BaseTimeEntity;
+import com.cryptory.be.global.entity.Tsid;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 첨부 파일 분할 업로드 (받은 크기까지 이어서 전송 가능)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "post_uploads", indexes = {
+        // 만료된 업로드 정리
+        @Index(name = "idx_post_uploads_status_created", columnList = "status, created_at"),
+        // 같은 내용의 기존 blob 조회
+        @Index(name = "idx_post_uploads_content_hash", columnList = "content_hash")
+})
+public class PostUpload extends BaseTimeEntity {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    // User 대리키 (users.id)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String originalFilename;
+
+    private long totalSize;
+
+    // 앞에서부터 연속으로 받은 바이트 수
+    private long receivedSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UploadStatus status;
+
+    // 완료 후 저장 경로
+    private String storedDir;
+
+    // 내용 SHA-256 (hex)
+    @Column(length = 64)
+    private String contentHash;
+
+    public PostUpload(Long userId, String originalFilename, long totalSize) {
+        this.userId = userId;
+        this.originalFilename = originalFilename;
+        this.totalSize = totalSize;
+        this.receivedSize = 0L;
+        this.status = UploadStatus.UPLOADING;
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+
+    public boolean isReceived() {
+        return receivedSize == totalSize;
+    }
+
+    public void complete(String storedDir, String contentHash) {
+        this.storedDir = storedDir;
+        this.contentHash = contentHash;
+        this.receivedSize = totalSize;
+        this.status = UploadStatus.COMPLETED;
+    }
+
+    public void attach() {
+        this.status = UploadStatus.ATTACHED;
+    }
+}
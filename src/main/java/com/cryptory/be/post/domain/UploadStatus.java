@@ -0,0 +1,7 @@
+package com.cryptory.be.post.domain;
+
+public enum UploadStatus {
+    UPLOADING,  // 조각 수신 중 (임시 파일)
+    COMPLETED,  // 저장소로 이동 완료, 게시글에 첨부 가능
+    ATTACHED    // 게시글 파일로 등록됨
+}
@@ -0,0 +1,22 @@
+package com.cryptory.be.post.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentDto {
+
+    private Long id;
+    private String content;
+    private String nickname;
+    private String createdAt;
+
+    public CommentDto(Long id, String content, String nickname, String createdAt) {
+        this.id = id;
+        this.content = content;
+        this.nickname = nickname;
+        this.createdAt = createdAt;
+    }
+}
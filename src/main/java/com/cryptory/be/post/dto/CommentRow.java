@@ -0,0 +1,22 @@
+package com.cryptory.be.post.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 조회용 프로젝션 (작성자는 userId만 읽고 닉네임은 페이지 단위로 한 번에 조회)
+@Getter
+public class CommentRow {
+
+    private final Long id;
+    private final String content;
+    private final Long userId;
+    private final LocalDateTime createdAt;
+
+    public CommentRow(Long id, String content, Long userId, LocalDateTime createdAt) {
+        this.id = id;
+        this.content = content;
+        this.userId = userId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cryptory.be.post.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 댓글 커서 조회 결과 (다음 페이지가 없으면 nextCursor는 null)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentSliceDto {
+
+    private List<CommentDto> comments;
+    private String nextCursor;
+
+    public CommentSliceDto(List<CommentDto> comments, String nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+}
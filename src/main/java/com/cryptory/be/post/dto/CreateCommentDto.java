@@ -0,0 +1,14 @@
+package com.cryptory.be.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CreateCommentDto {
+
+    @NotBlank
+    private String content;
+}
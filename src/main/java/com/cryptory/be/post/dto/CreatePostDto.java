@@ -4,7 +4,6 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -17,4 +16,7 @@ public class CreatePostDto {
 
     @NotBlank
     private String body;
+
+    // 분할 업로드를 완료한 첨부 파일 ID
+    private List<Long> uploadIds;
 }
@@ -0,0 +1,19 @@
+package com.cryptory.be.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InitiateUploadDto {
+
+    @NotBlank
+    private String filename;
+
+    // 전체 파일 크기 (bytes)
+    @Positive
+    private long size;
+}
@@ -0,0 +1,46 @@
+package com.cryptory.be.post.dto;
+
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 커서 기반 페이지네이션 위치 (createdAt, id)
+// 클라이언트에는 Base64 문자열로만 노출해서 내부 구조에 의존하지 않게 함
+@Getter
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public PostCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new PostException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+}
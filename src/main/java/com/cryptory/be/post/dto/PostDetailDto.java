@@ -18,8 +18,9 @@ public class PostDetailDto {
 
     private Long viewCnt;
     private Long likeCnt;
+    private Long commentCnt;
 
-    public PostDetailDto(String title, String body, String nickname, String createdAt, List<PostFileDto> postFiles, Long viewCnt, Long likeCnt) {
+    public PostDetailDto(String title, String body, String nickname, String createdAt, List<PostFileDto> postFiles, Long viewCnt, Long likeCnt, Long commentCnt) {
         this.title = title;
         this.body = body;
         this.nickname = nickname;
@@ -28,5 +29,6 @@ public class PostDetailDto {
 
         this.viewCnt = viewCnt;
         this.likeCnt = likeCnt;
+        this.commentCnt = commentCnt;
     }
 }
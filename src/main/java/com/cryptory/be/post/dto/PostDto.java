@@ -14,11 +14,13 @@ public class PostDto {
     private String title;
     private String nickname;
     private String createdAt;
+    private Long commentCnt;
 
-    public PostDto(Long id, String title, String nickname, String createdAt) {
+    public PostDto(Long id, String title, String nickname, String createdAt, Long commentCnt) {
         this.id = id;
         this.title = title;
         this.nickname = nickname;
         this.createdAt = createdAt;
+        this.commentCnt = commentCnt;
     }
 }
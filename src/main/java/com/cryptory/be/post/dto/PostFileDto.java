@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -15,10 +16,15 @@ public class PostFileDto {
 
     private String createdAt;
 
-    public PostFileDto(Long postFileId, String originalFileName, String storedDir, String createdAt) {
+    // 요청 가능한 축소본 폭 (storedDir?w={폭})
+    private List<Integer> variantWidths;
+
+    public PostFileDto(Long postFileId, String originalFileName, String storedDir, String createdAt,
+                       List<Integer> variantWidths) {
         this.postFileId = postFileId;
         this.originalFileName = originalFileName;
         this.storedDir = storedDir;
         this.createdAt = createdAt;
+        this.variantWidths = variantWidths;
     }
 }
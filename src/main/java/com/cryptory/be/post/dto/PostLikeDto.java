@@ -0,0 +1,18 @@
+package com.cryptory.be.post.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLikeDto {
+
+    private Long likeCnt;
+    private boolean liked;
+
+    public PostLikeDto(Long likeCnt, boolean liked) {
+        this.likeCnt = likeCnt;
+        this.liked = liked;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cryptory.be.post.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 대상 필드 (JPQL 생성자 표현식으로도 사용)
+@Getter
+public class PostSearchDocument {
+
+    private final Long id;
+    private final Long coinId;
+    private final String title;
+    private final String body;
+    // 변경분 따라잡기용 (삭제된 게시글은 색인에서 제거)
+    private final boolean deleted;
+    private final LocalDateTime updatedAt;
+
+    public PostSearchDocument(Long id, Long coinId, String title, String body) {
+        this(id, coinId, title, body, false, null);
+    }
+
+    public PostSearchDocument(Long id, Long coinId, String title, String body, boolean deleted, LocalDateTime updatedAt) {
+        this.id = id;
+        this.coinId = coinId;
+        this.title = title;
+        this.body = body;
+        this.deleted = deleted;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cryptory.be.post.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 모드 목록 조회 결과 (다음 페이지가 없으면 nextCursor는 null)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSliceDto {
+
+    private List<PostDto> posts;
+    private String nextCursor;
+
+    public PostSliceDto(List<PostDto> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+}
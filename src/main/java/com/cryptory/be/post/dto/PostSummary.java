@@ -0,0 +1,24 @@
+package com.cryptory.be.post.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 프로젝션 (JPQL 생성자 표현식으로 조회, body와 User 엔티티를 로딩하지 않음)
+@Getter
+public class PostSummary {
+
+    private final Long id;
+    private final String title;
+    private final String nickname;
+    private final LocalDateTime createdAt;
+    private final Long commentCnt;
+
+    public PostSummary(Long id, String title, String nickname, LocalDateTime createdAt, Long commentCnt) {
+        this.id = id;
+        this.title = title;
+        this.nickname = nickname;
+        this.createdAt = createdAt;
+        this.commentCnt = commentCnt;
+    }
+}
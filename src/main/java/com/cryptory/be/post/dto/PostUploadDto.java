@@ -0,0 +1,26 @@
+package com.cryptory.be.post.dto;
+
+import com.cryptory.be.post.domain.UploadStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 분할 업로드 상태 (receivedSize부터 이어서 전송)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostUploadDto {
+
+    private Long uploadId;
+    private String filename;
+    private long totalSize;
+    private long receivedSize;
+    private UploadStatus status;
+
+    public PostUploadDto(Long uploadId, String filename, long totalSize, long receivedSize, UploadStatus status) {
+        this.uploadId = uploadId;
+        this.filename = filename;
+        this.totalSize = totalSize;
+        this.receivedSize = receivedSize;
+        this.status = status;
+    }
+}
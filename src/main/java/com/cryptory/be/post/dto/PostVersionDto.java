@@ -0,0 +1,31 @@
+package com.cryptory.be.post.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 조건부 요청(ETag, Last-Modified) 판단용 버전 정보
+// tag: ETag에 들어가는 값 (응답 본문을 바꾸는 값을 모두 포함해야 함)
+@Getter
+public class PostVersionDto {
+
+    private final Long version;
+    private final LocalDateTime lastModifiedAt;
+    private final String tag;
+
+    public PostVersionDto(Long version, LocalDateTime lastModifiedAt) {
+        this(version, lastModifiedAt, "v" + version);
+    }
+
+    public PostVersionDto(Long version, LocalDateTime lastModifiedAt, String tag) {
+        this.version = version;
+        this.lastModifiedAt = lastModifiedAt;
+        this.tag = tag;
+    }
+
+    // 상세는 수정 시에만 버전이 오르므로 조회수/좋아요/댓글 수도 태그에 넣어서 집계만 바뀌어도 ETag가 달라지게 함
+    public static PostVersionDto ofDetail(Long version, LocalDateTime lastModifiedAt, PostDetailDto detail) {
+        return new PostVersionDto(version, lastModifiedAt, "v" + version + "-" + detail.getViewCnt()
+                + "-" + detail.getLikeCnt() + "-" + detail.getCommentCnt());
+    }
+}
@@ -9,7 +9,20 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum PostErrorCode implements ErrorCode {
 
-    NOT_EXIST_POST(HttpStatus.NOT_FOUND, "존재하지 않는 게시글입니다.");
+    NOT_EXIST_POST(HttpStatus.NOT_FOUND, "존재하지 않는 게시글입니다."),
+    NOT_EXIST_COMMENT(HttpStatus.NOT_FOUND, "존재하지 않는 댓글입니다."),
+    NOT_COMMENT_AUTHOR(HttpStatus.FORBIDDEN, "댓글 작성자만 삭제할 수 있습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    EMPTY_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 입력해 주세요."),
+
+    ALREADY_LIKED_POST(HttpStatus.CONFLICT, "이미 좋아요를 누른 게시글입니다."),
+    NOT_LIKED_POST(HttpStatus.BAD_REQUEST, "좋아요를 누르지 않은 게시글입니다."),
+
+    NOT_EXIST_UPLOAD(HttpStatus.NOT_FOUND, "존재하지 않는 업로드입니다."),
+    INVALID_UPLOAD_SIZE(HttpStatus.BAD_REQUEST, "업로드 크기가 허용 범위를 벗어났습니다."),
+    INVALID_UPLOAD_OFFSET(HttpStatus.CONFLICT, "업로드 위치가 올바르지 않습니다. 받은 크기부터 이어서 보내 주세요."),
+    INCOMPLETE_UPLOAD(HttpStatus.BAD_REQUEST, "업로드가 완료되지 않았습니다."),
+    UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드 중 오류가 발생했습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
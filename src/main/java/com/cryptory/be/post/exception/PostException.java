@@ -1,7 +1,9 @@
 package com.cryptory.be.post.exception;
 
-public class PostException extends ClassCastException {
+import com.cryptory.be.global.exception.CustomException;
+
+public class PostException extends CustomException {
     public PostException(PostErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode);
     }
 }
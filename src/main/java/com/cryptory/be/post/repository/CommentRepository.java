@@ -0,0 +1,42 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.post.domain.Comments;
+import com.cryptory.be.post.dto.CommentRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comments, Long> {
+    // 댓글 목록 행 프로젝션 (c.user.id는 FK 컬럼이라 조인 없음)
+    String ROW = "new com.cryptory.be.post.dto.CommentRow(c.id, c.content, c.user.id, c.createdAt)";
+
+    // 첫 페이지 (작성 순)
+    @Query("SELECT " + ROW + " FROM Comments c WHERE c.post.id = :postId AND c.isDeleted = false " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findFirstSlice(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서 이후 페이지: (createdAt, id) 위치부터 seek
+    @Query("SELECT " + ROW + " FROM Comments c WHERE c.post.id = :postId AND c.isDeleted = false " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findSliceAfter(@Param("postId") Long postId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    // 삭제 대상 댓글의 [postId, coinId] (엔티티 로딩 없이 집계/캐시 갱신용)
+    @Query("SELECT p.id, p.coinId FROM Comments c JOIN c.post p WHERE c.id = :id AND c.isDeleted = false")
+    List<Object[]> findActivePostRefById(@Param("id") Long id);
+
+    // 관리자 삭제: 엔티티 로딩 없이 UPDATE 한 번
+    @Modifying
+    @Query("UPDATE Comments c SET c.isDeleted = true WHERE c.id = :id AND c.isDeleted = false")
+    int softDeleteById(@Param("id") Long id);
+}
@@ -0,0 +1,93 @@
+package com.cryptory.be.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+
+// posts.body 컬럼에 남아 있는 본문을 post_bodies로 옮김 (이미 옮긴 게시글은 건너뛰므로 여러 번 실행해도 안전)
+// 일회성 작업이므로 post.body-migration.enabled=true로 띄운 인스턴스에서만 실행, 기존 컬럼은 배포 확인 후 수동으로 삭제
+// 이관 전에도 본문이 사라지지 않도록 post_bodies 행이 없는 게시글은 기존 컬럼에서 읽음 (findLegacyBody)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostBodyMigration {
+
+    private static final String COPY_BODIES_SQL = "INSERT INTO post_bodies (post_id, body) " +
+            "SELECT p.id, p.body FROM posts p LEFT JOIN post_bodies b ON b.post_id = p.id " +
+            "WHERE b.post_id IS NULL AND p.body IS NOT NULL";
+
+    private static final String FIND_LEGACY_BODY_SQL = "SELECT body FROM posts WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기존 컬럼 존재 여부 (처음 필요할 때 한 번 확인, 컬럼 삭제는 재배포와 함께 하므로 다시 확인하지 않음)
+    private volatile Boolean legacyBodyColumn;
+
+    @Value("${post.body-migration.enabled:false}")
+    private boolean enabled;
+
+    // 실패해도 서버 기동은 막지 않음 (이미 옮긴 게시글은 건너뛰므로 다시 켜서 재실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (!hasLegacyBodyColumn()) {
+                log.info("posts.body 컬럼이 없어 게시글 본문 이관 생략");
+                return;
+            }
+
+            int copied = jdbcTemplate.update(COPY_BODIES_SQL);
+            log.info("게시글 본문 이관 완료 ({}건)", copied);
+        } catch (RuntimeException e) {
+            log.error("게시글 본문 이관 실패", e);
+        }
+    }
+
+    // 아직 post_bodies로 옮기지 않은 게시글의 기존 본문
+    public Optional<String> findLegacyBody(Long postId) {
+        if (!hasLegacyBodyColumnCached()) {
+            return Optional.empty();
+        }
+        List<String> bodies = jdbcTemplate.queryForList(FIND_LEGACY_BODY_SQL, String.class, postId);
+        return bodies.isEmpty() ? Optional.empty() : Optional.ofNullable(bodies.get(0));
+    }
+
+    private boolean hasLegacyBodyColumnCached() {
+        Boolean exists = legacyBodyColumn;
+        if (exists == null) {
+            exists = hasLegacyBodyColumn();
+            legacyBodyColumn = exists;
+        }
+        return exists;
+    }
+
+    private boolean hasLegacyBodyColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"posts", "POSTS"}) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if ("body".equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,9 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.post.domain.PostBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+}
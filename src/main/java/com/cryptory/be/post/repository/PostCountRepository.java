@@ -0,0 +1,40 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.post.domain.PostCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostCountRepository extends JpaRepository<PostCount, Long> {
+
+    // 영속성 컨텍스트를 거치지 않고 DB에서 원자적으로 증감 (게시판 버전도 함께 증가)
+    @Modifying
+    @Query("UPDATE PostCount c SET c.postCount = c.postCount + :delta, " +
+            "c.boardVersion = c.boardVersion + 1, c.lastModifiedAt = :now WHERE c.coinId = :coinId")
+    int addDelta(@Param("coinId") Long coinId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    // 실제 개수와 어긋난 행만 한 번의 UPDATE로 보정 (게시판 버전도 함께 증가)
+    // 읽고 나서 덮어쓰지 않으므로 그 사이 커밋된 증감을 잃지 않음
+    @Modifying
+    @Query("UPDATE PostCount c SET " +
+            "c.postCount = (SELECT COUNT(p) FROM Post p WHERE p.coinId = c.coinId AND p.isDeleted = false), " +
+            "c.boardVersion = c.boardVersion + 1, c.lastModifiedAt = :now " +
+            "WHERE c.postCount <> (SELECT COUNT(p) FROM Post p WHERE p.coinId = c.coinId AND p.isDeleted = false)")
+    int recount(@Param("now") LocalDateTime now);
+
+    // 게시글은 있지만 집계 행이 아직 없는 코인
+    @Query("SELECT DISTINCT p.coinId FROM Post p WHERE p.isDeleted = false " +
+            "AND NOT EXISTS (SELECT 1 FROM PostCount c WHERE c.coinId = p.coinId)")
+    List<Long> findCoinIdsWithoutCount();
+
+    // 모든 게시판 버전 증가 (닉네임 변경 등 코인을 특정할 수 없는 변경)
+    @Modifying
+    @Query("UPDATE PostCount c SET c.boardVersion = c.boardVersion + 1, c.lastModifiedAt = :now")
+    int touchAll(@Param("now") LocalDateTime now);
+}
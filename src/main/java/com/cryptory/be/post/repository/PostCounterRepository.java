@@ -0,0 +1,49 @@
+package com.cryptory.be.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+// 게시글 집계 컬럼(조회수, 댓글 수) 반영용 (엔티티 로딩 없이 JDBC batch 한 번으로 처리)
+@Repository
+@RequiredArgsConstructor
+public class PostCounterRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE posts SET view_cnt = view_cnt + ? WHERE id = ?";
+    private static final String ADD_COMMENT_COUNT_SQL = "UPDATE posts SET comment_cnt = comment_cnt + ? WHERE id = ?";
+    private static final String SELECT_IDS_AFTER_SQL = "SELECT id FROM posts WHERE id > ? ORDER BY id LIMIT ?";
+    // 어긋난 행만 갱신 (id 구간 단위, 댓글 수는 comments의 (post_id, ...) 인덱스로 계산)
+    private static final String RECOUNT_COMMENTS_SQL = "UPDATE posts p SET comment_cnt = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_deleted = false) " +
+            "WHERE p.id > ? AND p.id <= ? AND p.comment_cnt <> " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_deleted = false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addViewCounts(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, toArgs(deltas));
+    }
+
+    public void addCommentCounts(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate(ADD_COMMENT_COUNT_SQL, toArgs(deltas));
+    }
+
+    // id 순 keyset으로 다음 구간의 게시글 id
+    public List<Long> findIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_IDS_AFTER_SQL, Long.class, afterId, limit);
+    }
+
+    // (fromId, toId] 구간 댓글 수를 실제 값으로 덮어쓰고 보정한 행 수 반환
+    public int recountComments(long fromId, long toId) {
+        return jdbcTemplate.update(RECOUNT_COMMENTS_SQL, fromId, toId);
+    }
+
+    private List<Object[]> toArgs(Map<Long, Long> values) {
+        return values.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+    }
+}
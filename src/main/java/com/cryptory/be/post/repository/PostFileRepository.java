@@ -2,7 +2,11 @@ package com.cryptory.be.post.repository;
 
 import com.cryptory.be.post.domain.PostFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
@@ -10,4 +14,24 @@ import java.util.List;
 @Repository
 public interface PostFileRepository extends JpaRepository<PostFile, Long> {
     List<PostFile> findAllByPostId(Long postId);
+
+    // blob 참조 카운트
+    long countByContentHash(String contentHash);
+
+    // 축소본 생성 완료 기록 (같은 blob을 쓰는 파일 모두, 백그라운드 스레드에서 호출)
+    // blob 경로는 내용 해시로 정해지므로 인덱스가 있는 content_hash로 찾음
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostFile f SET f.variantWidths = :variantWidths WHERE f.contentHash = :contentHash")
+    int updateVariantWidthsByContentHash(@Param("contentHash") String contentHash, @Param("variantWidths") String variantWidths);
+
+    // 같은 blob을 첨부한 게시글 (축소본 기록 후 상세 캐시 무효화 대상)
+    @Query("SELECT DISTINCT f.post.id FROM PostFile f WHERE f.contentHash = :contentHash")
+    List<Long> findPostIdsByContentHash(@Param("contentHash") String contentHash);
+
+    // 해시가 없는 기존 파일은 해당 파일만
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostFile f SET f.variantWidths = :variantWidths WHERE f.id = :id")
+    int updateVariantWidthsById(@Param("id") Long id, @Param("variantWidths") String variantWidths);
 }
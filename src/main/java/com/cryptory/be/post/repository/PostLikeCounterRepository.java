@@ -0,0 +1,26 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.post.domain.PostLikeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostLikeCounterRepository extends JpaRepository<PostLikeCounter, Long> {
+
+    @Modifying
+    @Query("UPDATE PostLikeCounter c SET c.cnt = c.cnt + :delta WHERE c.postId = :postId AND c.shard = :shard")
+    int addDelta(@Param("postId") Long postId, @Param("shard") int shard, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.cnt), 0) FROM PostLikeCounter c WHERE c.postId = :postId")
+    long sumByPostId(@Param("postId") Long postId);
+
+    // 게시글별 좋아요 수 [postId, sum]
+    @Query("SELECT c.postId, SUM(c.cnt) FROM PostLikeCounter c WHERE c.postId IN :postIds GROUP BY c.postId")
+    List<Object[]> sumGroupByPostIds(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,22 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.post.domain.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    // 좋아요 누른 사용자 대리키 목록 (메모리 비트맵 적재용)
+    @Query("SELECT l.userId FROM PostLike l WHERE l.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -1,22 +1,121 @@
 package com.cryptory.be.post.repository;
 
+import com.cryptory.be.admin.dto.post.PostExportRow;
 import com.cryptory.be.post.domain.Post;
-import org.springframework.data.domain.Page;
+import com.cryptory.be.post.dto.PostSearchDocument;
+import com.cryptory.be.post.dto.PostSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findAllByCoinId(Long coinId, Pageable pageable);
+    // 목록 행 프로젝션: 작성자 닉네임까지 한 번의 조인 쿼리로 조회 (N+1 방지)
+    String SUMMARY = "new com.cryptory.be.post.dto.PostSummary(p.id, p.title, u.nickname, p.createdAt, p.commentCnt)";
 
-    long countByCoinId(Long coinId);
+    // 삭제 필터와 정렬을 DB에서 처리 (idx_posts_coin_deleted_created 사용)
+    // 총 개수는 PostCount에서 읽으므로 Page 대신 List로 받아 count 쿼리를 생략
+    @Query("SELECT " + SUMMARY + " FROM Post p LEFT JOIN p.user u " +
+            "WHERE p.coinId = :coinId AND p.isDeleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findActiveByCoinId(@Param("coinId") Long coinId, Pageable pageable);
 
-    //ID 목록에 해당하는 Post 중에서 isDeleted가 false인 Post만 조회
-    @Query("SELECT p FROM Post p WHERE p.id IN :ids AND p.isDeleted = false ")
-    List<Post> findAllByIdsAndNotDeleted(@Param("ids") List<Long> ids);
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.coinId = :coinId AND p.isDeleted = false")
+    long countActiveByCoinId(@Param("coinId") Long coinId);
+
+    // 커서 모드 첫 페이지 (createdAt, id 내림차순)
+    @Query("SELECT " + SUMMARY + " FROM Post p LEFT JOIN p.user u " +
+            "WHERE p.coinId = :coinId AND p.isDeleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findFirstSlice(@Param("coinId") Long coinId, Pageable pageable);
+
+    // 커서 이후 페이지: OFFSET 없이 (createdAt, id) 위치부터 seek
+    @Query("SELECT " + SUMMARY + " FROM Post p LEFT JOIN p.user u " +
+            "WHERE p.coinId = :coinId AND p.isDeleted = false " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findSliceAfter(@Param("coinId") Long coinId,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") Long id,
+                              Pageable pageable);
+
+    // 관리자 내보내기: 전진 전용 커서로 한 행씩 읽음 (DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음)
+    // MySQL은 URL에 useCursorFetch=true가 있어야 fetch size 단위로 나눠 받음 (없으면 내보내기에서 예외)
+    // 좋아요 수는 posts.like_cnt가 아니라 샤드 테이블(post_like_counters) 합계
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.cryptory.be.admin.dto.post.PostExportRow(p.id, p.coinId, p.title, b.body, u.nickname, " +
+            "p.viewCnt, " +
+            "(SELECT COALESCE(SUM(c.cnt), 0) FROM PostLikeCounter c WHERE c.postId = p.id), " +
+            "p.commentCnt, p.isDeleted, p.createdAt, p.updatedAt) " +
+            "FROM Post p LEFT JOIN p.user u LEFT JOIN PostBody b ON b.postId = p.id " +
+            "WHERE p.coinId = :coinId ORDER BY p.id")
+    Stream<PostExportRow> streamExportRowsByCoinId(@Param("coinId") Long coinId);
+
+    // 수정: 본문(PostBody)만 바뀌어도 게시글 버전이 올라가도록 (ETag 갱신)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findForUpdateById(@Param("id") Long id);
+
+    // 상세 조회: 작성자를 함께 조회해서 지연 로딩 쿼리 제거
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.user WHERE p.id = :id")
+    Optional<Post> findDetailById(@Param("id") Long id);
+
+    // 검색 결과 ID 목록의 목록 행 (순서는 호출한 쪽에서 관련도 순으로 정렬)
+    @Query("SELECT " + SUMMARY + " FROM Post p LEFT JOIN p.user u " +
+            "WHERE p.id IN :ids AND p.isDeleted = false")
+    List<PostSummary> findSummariesByIds(@Param("ids") List<Long> ids);
+
+    // 인기 게시글 점수 복원용 [id, coinId, viewCnt, commentCnt, createdAt] ((createdAt, id) 순 keyset, idx_posts_created 사용)
+    @Query("SELECT p.id, p.coinId, p.viewCnt, p.commentCnt, p.createdAt FROM Post p " +
+            "WHERE p.isDeleted = false AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+            "ORDER BY p.createdAt, p.id")
+    List<Object[]> findActivitySince(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 검색 색인 따라잡기: (updatedAt, id) 이후 생성/수정/삭제된 게시글 (idx_posts_updated 사용)
+    @Query("SELECT new com.cryptory.be.post.dto.PostSearchDocument(p.id, p.coinId, p.title, b.body, p.isDeleted, p.updatedAt) " +
+            "FROM Post p LEFT JOIN PostBody b ON b.postId = p.id " +
+            "WHERE p.updatedAt >= :updatedAt AND (p.updatedAt > :updatedAt OR p.id > :id) " +
+            "ORDER BY p.updatedAt, p.id")
+    List<PostSearchDocument> findSearchDocumentsChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    // 본문만 수정해도 변경 시각이 바뀌도록 (다른 인스턴스의 검색 색인 따라잡기 기준)
+    @Modifying
+    @Query("UPDATE Post p SET p.updatedAt = :now WHERE p.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 첨부 파일 정보만 바뀐 게시글의 상세 ETag가 바뀌도록 버전 증가 (축소본 생성 완료 후 백그라운드 스레드에서 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.version = p.version + 1, p.updatedAt = :now WHERE p.id IN :ids")
+    int increaseVersions(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // ID 목록 중 삭제되지 않은 게시글의 [id, coinId] (엔티티 로딩 없이 일괄 삭제 후처리용)
+    @Query("SELECT p.id, p.coinId FROM Post p WHERE p.id IN :ids AND p.isDeleted = false")
+    List<Object[]> findActiveCoinIdsByIds(@Param("ids") Collection<Long> ids);
+
+    // 일괄 논리 삭제: UPDATE 한 번 (조건부 요청용 버전/수정 시각도 함께 갱신)
+    @Modifying
+    @Query("UPDATE Post p SET p.isDeleted = true, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id IN :ids AND p.isDeleted = false")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
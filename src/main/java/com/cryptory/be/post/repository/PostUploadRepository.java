@@ -0,0 +1,46 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.post.domain.PostUpload;
+import com.cryptory.be.post.domain.UploadStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostUploadRepository extends JpaRepository<PostUpload, Long> {
+
+    // 받은 크기 위치에서 이어 쓴 경우에만 받은 크기를 늘림 (같은 위치로 동시에 들어온 조각은 하나만 반영)
+    // 조각 기록은 트랜잭션 밖에서 하므로 갱신만 짧은 트랜잭션으로
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostUpload u SET u.receivedSize = :end " +
+            "WHERE u.id = :id AND u.status = com.cryptory.be.post.domain.UploadStatus.UPLOADING " +
+            "AND u.receivedSize = :offset")
+    int advance(@Param("id") Long id, @Param("offset") long offset, @Param("end") long end);
+
+    @Query("SELECT u FROM PostUpload u WHERE u.id IN :ids AND u.userId = :userId " +
+            "AND u.status = com.cryptory.be.post.domain.UploadStatus.COMPLETED")
+    List<PostUpload> findCompletedByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 같은 내용(blob)의 업로드 행을 잠그고 최신 상태로 조회
+    // 완료(blob 재사용)와 정리(blob 삭제)가 같은 해시에 대해 동시에 진행되지 않도록 양쪽에서 먼저 호출
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM PostUpload u WHERE u.contentHash = :contentHash")
+    List<PostUpload> findAllByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+    // 게시글에 첨부되지 않고 오래된 업로드
+    @Query("SELECT u FROM PostUpload u WHERE u.status IN :statuses AND u.createdAt < :before ORDER BY u.id")
+    List<PostUpload> findExpired(@Param("statuses") Collection<UploadStatus> statuses,
+                                 @Param("before") LocalDateTime before,
+                                 Pageable pageable);
+}
@@ -0,0 +1,148 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.post.domain.Comments;
+import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.post.dto.*;
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import com.cryptory.be.post.repository.CommentRepository;
+import com.cryptory.be.post.repository.PostRepository;
+import com.cryptory.be.user.domain.User;
+import com.cryptory.be.user.exception.UserErrorCode;
+import com.cryptory.be.user.exception.UserException;
+import com.cryptory.be.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentService {
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostCommentCounter postCommentCounter;
+    private final PostPageCache postPageCache;
+    private final PostDetailCache postDetailCache;
+    private final PostTrendingTracker postTrendingTracker;
+
+    // 커서 기반 댓글 조회 (작성 순)
+    public CommentSliceDto getComments(Long postId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<CommentRow> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = commentRepository.findFirstSlice(postId, limit);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            fetched = commentRepository.findSliceAfter(postId, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        boolean hasNext = fetched.size() > size;
+        List<CommentRow> slice = hasNext ? fetched.subList(0, size) : fetched;
+
+        // 작성자 닉네임은 페이지 단위로 한 번에 조회
+        List<Long> userIds = slice.stream()
+                .map(CommentRow::getUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, String> nicknames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        List<CommentDto> comments = slice.stream()
+                .map(row -> new CommentDto(
+                        row.getId(),
+                        row.getContent(),
+                        nicknames.get(row.getUserId()),
+                        DateFormat.formatDate(row.getCreatedAt())
+                )).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentRow last = slice.get(slice.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CommentSliceDto(comments, nextCursor);
+    }
+
+    @Transactional
+    public CommentDto createComment(Long postId, String userId, CreateCommentDto createCommentDto) {
+        User user = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
+
+        Post post = postRepository.findById(postId)
+                .filter(Post::isNotDeleted)
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_POST));
+
+        Comments comment = commentRepository.save(Comments.builder()
+                .content(createCommentDto.getContent())
+                .user(user)
+                .post(post)
+                .build());
+
+        postCommentCounter.increase(postId, post.getCoinId());
+        postPageCache.invalidate(post.getCoinId());
+        postDetailCache.adjustComments(postId, 1);
+        postTrendingTracker.recordComment(post.getCoinId(), postId);
+
+        return new CommentDto(
+                comment.getId(),
+                comment.getContent(),
+                user.getNickname(),
+                DateFormat.formatDate(comment.getCreatedAt())
+        );
+    }
+
+    // 작성자 본인만 삭제 가능
+    @Transactional
+    public void deleteComment(Long postId, Long commentId, String userId) {
+        Comments comment = commentRepository.findById(commentId)
+                .filter(Comments::isNotDeleted)
+                .filter(found -> found.getPost().getId().equals(postId))
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_COMMENT));
+
+        if (!comment.getUser().getUserId().equals(userId)) {
+            throw new PostException(PostErrorCode.NOT_COMMENT_AUTHOR);
+        }
+
+        comment.delete();
+
+        postCommentCounter.decrease(postId, comment.getPost().getCoinId());
+        postPageCache.invalidate(comment.getPost().getCoinId());
+        postDetailCache.adjustComments(postId, -1);
+    }
+
+    // 관리자 삭제: 단일 UPDATE
+    @Transactional
+    public void deleteCommentByAdmin(Long commentId) {
+        // 댓글 수 반영에 필요한 게시글/코인 ID만 조회
+        Object[] ref = commentRepository.findActivePostRefById(commentId).stream()
+                .findFirst()
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_COMMENT));
+
+        if (commentRepository.softDeleteById(commentId) == 0) {
+            throw new PostException(PostErrorCode.NOT_EXIST_COMMENT);
+        }
+
+        Long postId = (Long) ref[0];
+        Long coinId = (Long) ref[1];
+        postCommentCounter.decrease(postId, coinId);
+        postPageCache.invalidate(coinId);
+        postDetailCache.adjustComments(postId, -1);
+    }
+}
@@ -0,0 +1,141 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.DeltaBuffer;
+import com.cryptory.be.global.util.TransactionUtils;
+import com.cryptory.be.post.repository.PostCounterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시글 댓글 수(posts.comment_cnt) write-behind 버퍼
+// 조회수와 같이 증감분을 모았다가 JDBC batch로 반영하고, 어긋난 값은 주기적으로 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCounter {
+
+    private final PostCounterRepository postCounterRepository;
+    private final PostCountService postCountService;
+    private final PostPageCache postPageCache;
+    private final PostDetailCache postDetailCache;
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    // 반영(flush)과 보정(reconcile)이 같은 증감분을 동시에 다루지 않도록
+    private final Object flushLock = new Object();
+
+    @Value("${post.comment-count.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+
+    // 롤백된 댓글이 집계되지 않도록 커밋 후 반영
+    // 목록에 보이는 댓글 수가 바뀌므로 증감분을 넣은 다음 게시판 버전을 올림 (순서가 반대면 새 버전으로 이전 값이 캐시될 수 있음)
+    public void increase(Long postId, Long coinId) {
+        TransactionUtils.afterCommit(() -> {
+            pending.add(postId, 1);
+            touchBoard(coinId);
+        });
+    }
+
+    public void decrease(Long postId, Long coinId) {
+        TransactionUtils.afterCommit(() -> {
+            pending.add(postId, -1);
+            touchBoard(coinId);
+        });
+    }
+
+    // 아직 DB에 반영되지 않은 증감분
+    public long getPending(Long postId) {
+        return pending.get(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post.comment-count.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            apply(pending.drain());
+        }
+    }
+
+    // 게시글 id 구간마다 DB에서 실제 댓글 수로 덮어씀
+    // 구간 보정 직전에 버퍼를 비우고, 그 구간의 증감분은 버림 (커밋된 댓글이라 재계산 값에 이미 포함됨)
+    // 커밋 직후 버퍼에 들어가기 전(콜백 실행 사이) 댓글만 다음 보정까지 1 차이날 수 있음
+    @Scheduled(cron = "${post.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long afterId = 0L;
+        long corrected = 0L;
+        List<Long> ids;
+
+        do {
+            ids = postCounterRepository.findIdsAfter(afterId, reconcileBatchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = afterId;
+            long toId = ids.get(ids.size() - 1);
+
+            synchronized (flushLock) {
+                Map<Long, Long> deltas = pending.drain();
+                Map<Long, Long> inRange = new HashMap<>();
+                deltas.entrySet().removeIf(entry -> {
+                    if (entry.getKey() > fromId && entry.getKey() <= toId) {
+                        inRange.put(entry.getKey(), entry.getValue());
+                        return true;
+                    }
+                    return false;
+                });
+                apply(deltas);
+
+                try {
+                    corrected += postCounterRepository.recountComments(fromId, toId);
+                } catch (RuntimeException e) {
+                    pending.restore(inRange);
+                    throw e;
+                }
+            }
+            afterId = toId;
+        } while (ids.size() == reconcileBatchSize);
+
+        // 어느 게시판/게시글이 바뀌었는지 따로 모으지 않으므로 보정이 있었으면 전체 무효화
+        if (corrected > 0) {
+            postCountService.touchAll();
+            postPageCache.invalidateAll();
+            postDetailCache.invalidateAll();
+        }
+        log.info("게시글 댓글 수 보정 완료 (보정: {})", corrected);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void apply(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            postCounterRepository.addCommentCounts(deltas);
+        } catch (RuntimeException e) {
+            log.error("댓글 수 반영 실패 (게시글 {}건)", deltas.size(), e);
+            pending.restore(deltas);
+        }
+    }
+
+    private void touchBoard(Long coinId) {
+        try {
+            postCountService.touchInNewTransaction(coinId);
+        } catch (RuntimeException e) {
+            // 댓글은 이미 커밋됨, 목록 ETag는 다음 게시판 변경 시 갱신
+            log.warn("게시판 버전 갱신 실패 (coinId: {})", coinId, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.post.domain.PostCount;
+import com.cryptory.be.post.dto.PostVersionDto;
+import com.cryptory.be.post.repository.PostCountRepository;
+import com.cryptory.be.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostCountService {
+
+    private final PostCountRepository postCountRepository;
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 저장된 값이 없으면(첫 게시글 전 등) 실제 개수로 대체
+    public long getCount(Long coinId) {
+        return postCountRepository.findById(coinId)
+                .map(PostCount::getPostCount)
+                .orElseGet(() -> postRepository.countActiveByCoinId(coinId));
+    }
+
+    // 목록 조건부 요청용 게시판 버전 (집계 행이 없으면 버전 0)
+    public PostVersionDto getBoardVersion(Long coinId) {
+        return postCountRepository.findById(coinId)
+                .map(postCount -> new PostVersionDto(postCount.getBoardVersion(), postCount.getLastModifiedAt()))
+                .orElseGet(() -> new PostVersionDto(0L, null));
+    }
+
+    // 호출한 쪽의 트랜잭션에 참여해서 게시글 생성/삭제와 함께 커밋
+    @Transactional
+    public void increase(Long coinId) {
+        addDelta(coinId, 1);
+    }
+
+    @Transactional
+    public void decrease(Long coinId, long amount) {
+        addDelta(coinId, -amount);
+    }
+
+    // 개수 변화 없이 게시판 내용만 바뀐 경우 (게시글 수정 등)
+    @Transactional
+    public void touch(Long coinId) {
+        addDelta(coinId, 0);
+    }
+
+    // 커밋 이후 콜백에서 호출 (원래 트랜잭션은 이미 커밋되었으므로 새 트랜잭션으로 실행)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void touchInNewTransaction(Long coinId) {
+        addDelta(coinId, 0);
+    }
+
+    // 닉네임 변경처럼 어느 게시판에 보이는지 특정할 수 없는 변경
+    @Transactional
+    public void touchAll() {
+        postCountRepository.touchAll(LocalDateTime.now());
+    }
+
+    // 증감 누락 등으로 어긋난 값을 주기적으로 보정
+    @Scheduled(cron = "${post.count.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        int corrected = postCountRepository.recount(LocalDateTime.now());
+
+        // 집계 행이 아직 없는 코인
+        List<Long> missing = postCountRepository.findCoinIdsWithoutCount();
+        missing.forEach(this::seed);
+
+        log.info("코인별 게시글 수 보정 완료 (보정: {}, 신규: {})", corrected, missing.size());
+    }
+
+    private void addDelta(Long coinId, long delta) {
+        int updated = postCountRepository.addDelta(coinId, delta, LocalDateTime.now());
+        if (updated == 0) {
+            seed(coinId);
+            postCountRepository.addDelta(coinId, delta, LocalDateTime.now());
+        }
+    }
+
+    // 집계 행이 없으면 별도 트랜잭션에서 커밋된 게시글 기준으로 먼저 생성하고, 증감은 원래 트랜잭션의 UPDATE로 반영
+    // 첫 글이 동시에 작성되어 같은 행을 만들려고 하면 한쪽은 키 중복으로 실패하지만 이미 행이 있으므로 그대로 진행
+    private void seed(Long coinId) {
+        TransactionTemplate seedTransaction = new TransactionTemplate(transactionManager);
+        seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            seedTransaction.executeWithoutResult(status -> {
+                if (!postCountRepository.existsById(coinId)) {
+                    postCountRepository.saveAndFlush(new PostCount(coinId, postRepository.countActiveByCoinId(coinId)));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("코인 {} 게시글 수 집계 행을 다른 요청이 먼저 생성", coinId);
+        }
+    }
+}
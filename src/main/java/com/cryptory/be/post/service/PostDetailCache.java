@@ -0,0 +1,183 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.datasource.PrimaryReads;
+import com.cryptory.be.global.util.TransactionUtils;
+import com.cryptory.be.post.dto.PostDetailDto;
+import com.cryptory.be.post.dto.PostVersionDto;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 게시글 상세 캐시
+// 캐시 적중 시 DB 접근 없이 응답하고, 조회수/좋아요/댓글 수는 적재 이후 증감분을 메모리에서 더함
+@Component
+public class PostDetailCache {
+
+    @Value("${post.detail-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 다른 인스턴스에서 발생한 변경을 반영하기 위한 최대 보관 시간
+    @Value("${post.detail-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // 적재 중인 게시글의 무효화 횟수: 적재 도중 무효화되면 이전 데이터를 저장하지 않도록
+    // 적재가 끝나면 제거하므로 동시에 적재 중인 게시글 수만큼만 보관
+    private final Map<Long, Loading> loading = new HashMap<>();
+
+    public Entry get(Long postId, Supplier<Entry> loader) {
+        Loading marker;
+        long invalidations;
+        synchronized (this) {
+            Entry cached = entries.get(postId);
+            if (cached != null && !cached.isExpired()) {
+                return cached;
+            }
+            marker = loading.computeIfAbsent(postId, id -> new Loading());
+            marker.loaders++;
+            invalidations = marker.invalidations;
+        }
+
+        Entry loaded = null;
+        try {
+            // 무효화 직후 적재가 지연된 replica에서 이전 데이터를 읽지 않도록 primary에서 적재
+            loaded = PrimaryReads.call(loader);
+            return loaded;
+        } finally {
+            synchronized (this) {
+                if (loaded != null && marker.invalidations == invalidations) {
+                    entries.put(postId, loaded);
+                }
+                if (--marker.loaders == 0) {
+                    loading.remove(postId);
+                }
+            }
+        }
+    }
+
+    public void invalidate(Long postId) {
+        TransactionUtils.afterCommit(() -> evict(postId));
+    }
+
+    public void invalidate(Collection<Long> postIds) {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (this) {
+                postIds.forEach(this::evict);
+            }
+        });
+    }
+
+    // 닉네임 변경 등 게시글을 특정할 수 없는 변경
+    public void invalidateAll() {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (this) {
+                loading.values().forEach(marker -> marker.invalidations++);
+                entries.clear();
+            }
+        });
+    }
+
+    public void adjustLikes(Long postId, long delta) {
+        TransactionUtils.afterCommit(() -> {
+            Entry cached = peekOrInvalidateLoading(postId);
+            if (cached != null) {
+                cached.likes.addAndGet(delta);
+            }
+        });
+    }
+
+    public void adjustComments(Long postId, long delta) {
+        TransactionUtils.afterCommit(() -> {
+            Entry cached = peekOrInvalidateLoading(postId);
+            if (cached != null) {
+                cached.comments.addAndGet(delta);
+            }
+        });
+    }
+
+    public Entry newEntry(PostDetailDto detail, Long coinId, Long version, LocalDateTime lastModifiedAt) {
+        return new Entry(detail, coinId, version, lastModifiedAt, System.currentTimeMillis() + ttlMillis);
+    }
+
+    // 캐시에 없고 적재 중이면 적재 결과가 이번 증감 전 값일 수 있으므로 저장하지 않게 함
+    private synchronized Entry peekOrInvalidateLoading(Long postId) {
+        Entry cached = entries.get(postId);
+        if (cached == null) {
+            markInvalidated(postId);
+        }
+        return cached;
+    }
+
+    private synchronized void evict(Long postId) {
+        markInvalidated(postId);
+        entries.remove(postId);
+    }
+
+    private void markInvalidated(Long postId) {
+        Loading marker = loading.get(postId);
+        if (marker != null) {
+            marker.invalidations++;
+        }
+    }
+
+    private static class Loading {
+        private long invalidations;
+        private int loaders;
+    }
+
+    @Getter
+    public static class Entry {
+        private final PostDetailDto detail;
+        private final Long coinId;
+        private final Long version;
+        private final LocalDateTime lastModifiedAt;
+        private final long expiresAt;
+
+        private final LongAdder views = new LongAdder();
+        private final AtomicLong likes;
+        private final AtomicLong comments;
+
+        private Entry(PostDetailDto detail, Long coinId, Long version, LocalDateTime lastModifiedAt, long expiresAt) {
+            this.detail = detail;
+            this.coinId = coinId;
+            this.version = version;
+            this.lastModifiedAt = lastModifiedAt;
+            this.expiresAt = expiresAt;
+            this.likes = new AtomicLong(detail.getLikeCnt());
+            this.comments = new AtomicLong(detail.getCommentCnt());
+        }
+
+        public void addView() {
+            views.increment();
+        }
+
+        // 현재 집계 값 기준 버전 (응답 본문과 같은 값으로 ETag를 만들도록 toDto 결과에서 계산)
+        public PostVersionDto toVersionDto(PostDetailDto dto) {
+            return PostVersionDto.ofDetail(version, lastModifiedAt, dto);
+        }
+
+        public PostDetailDto toDto() {
+            return new PostDetailDto(detail.getTitle(), detail.getBody(), detail.getNickname(), detail.getCreatedAt(),
+                    detail.getFiles(), detail.getViewCnt() + views.sum(), likes.get(), comments.get());
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
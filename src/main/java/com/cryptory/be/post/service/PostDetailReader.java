@@ -0,0 +1,71 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.post.domain.PostBody;
+import com.cryptory.be.post.dto.PostDetailDto;
+import com.cryptory.be.post.dto.PostFileDto;
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import com.cryptory.be.post.repository.PostBodyMigration;
+import com.cryptory.be.post.repository.PostBodyRepository;
+import com.cryptory.be.post.repository.PostFileRepository;
+import com.cryptory.be.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 게시글 상세 캐시 미스 시 DB 적재 (읽기 전용 트랜잭션)
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostDetailReader {
+
+    private final PostRepository postRepository;
+    private final PostBodyRepository postBodyRepository;
+    private final PostBodyMigration postBodyMigration;
+    private final PostFileRepository postFileRepository;
+    private final PostViewCounter postViewCounter;
+    private final PostCommentCounter postCommentCounter;
+    private final PostLikeService postLikeService;
+    private final PostDetailCache postDetailCache;
+
+    public PostDetailCache.Entry read(Long postId) {
+        Post post = postRepository.findDetailById(postId)
+                .filter(Post::isNotDeleted)
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_POST));
+
+        // 본문은 상세 조회에서만 읽음 (아직 이관하지 않은 게시글은 기존 컬럼)
+        String body = postBodyRepository.findById(postId)
+                .map(PostBody::getBody)
+                .orElseGet(() -> postBodyMigration.findLegacyBody(postId).orElse(null));
+
+        List<PostFileDto> postFiles = postFileRepository.findAllByPostId(postId).stream()
+                .map(postFile -> new PostFileDto(
+                        postFile.getId(),
+                        postFile.getOriginalFilename(),
+                        postFile.getStoredDir(),
+                        DateFormat.formatDate(postFile.getCreatedAt()),
+                        parseWidths(postFile.getVariantWidths())
+                )).toList();
+
+        PostDetailDto detail = new PostDetailDto(post.getTitle(), body, post.getUser().getNickname(),
+                DateFormat.formatDate(post.getCreatedAt()), postFiles,
+                post.getViewCnt() + postViewCounter.getPending(postId), postLikeService.getLikeCount(postId),
+                post.getCommentCnt() + postCommentCounter.getPending(postId));
+
+        return postDetailCache.newEntry(detail, post.getCoinId(), post.getVersion(), post.getUpdatedAt());
+    }
+
+    private List<Integer> parseWidths(String variantWidths) {
+        if (variantWidths == null || variantWidths.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(variantWidths.split(","))
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
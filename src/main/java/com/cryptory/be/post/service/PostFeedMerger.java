@@ -0,0 +1,152 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.post.dto.PostCursor;
+import com.cryptory.be.post.dto.PostSummary;
+import com.cryptory.be.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 여러 코인 게시판의 최신 글을 (createdAt, id) 내림차순으로 병합 (k-way merge)
+// 첫 묶음은 코인마다 limit / 코인 수 + 1개씩 동시에 읽으므로 반환할 개수보다 최대 코인 수만큼 더 읽음 (약 limit + k행)
+// 어떤 코인의 묶음이 소진되면 그 시점에 남은 개수만큼 다시 읽음 (이 재조회에서도 쓰지 않는 행이 남을 수 있음)
+@Component
+@RequiredArgsConstructor
+public class PostFeedMerger {
+
+    // 최신 글이 먼저 오도록 (createdAt, id) 내림차순
+    private static final Comparator<PostSummary> NEWEST_FIRST =
+            Comparator.comparing(PostSummary::getCreatedAt)
+                    .thenComparing(PostSummary::getId)
+                    .reversed();
+
+    private final PostRepository postRepository;
+
+    @Value("${post.feed.threads:8}")
+    private int threads;
+
+    @Value("${post.feed.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    protected void open() {
+        // 큐가 가득 차면 요청 스레드에서 직접 조회 (무한정 쌓이지 않도록)
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    // after 이후(더 오래된) 게시글을 최대 limit개, 최신 순으로 반환
+    public List<PostSummary> merge(List<Long> coinIds, PostCursor after, int limit) {
+        if (coinIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int headSize = limit / coinIds.size() + 1;
+        List<CompletableFuture<CoinHead>> loading = coinIds.stream()
+                .map(coinId -> CompletableFuture.supplyAsync(
+                        () -> new CoinHead(coinId, fetch(coinId, after, headSize), headSize), executor))
+                .toList();
+
+        PriorityQueue<CoinHead> heap = new PriorityQueue<>(coinIds.size(),
+                Comparator.comparing(CoinHead::peek, NEWEST_FIRST));
+        for (CompletableFuture<CoinHead> future : loading) {
+            CoinHead head = join(future);
+            if (head.hasBuffered()) {
+                heap.offer(head);
+            }
+        }
+
+        List<PostSummary> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            CoinHead head = heap.poll();
+            PostSummary next = head.poll();
+            merged.add(next);
+
+            // 소진된 코인은 아직 채워야 하는 개수만큼만 이어서 조회
+            int remaining = limit - merged.size();
+            if (!head.hasBuffered() && head.mayHaveMore() && remaining > 0) {
+                head.refill(fetch(head.coinId, new PostCursor(next.getCreatedAt(), next.getId()), remaining), remaining);
+            }
+            if (head.hasBuffered()) {
+                heap.offer(head);
+            }
+        }
+
+        return merged;
+    }
+
+    private List<PostSummary> fetch(Long coinId, PostCursor after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        if (after == null) {
+            return postRepository.findFirstSlice(coinId, limit);
+        }
+        return postRepository.findSliceAfter(coinId, after.getCreatedAt(), after.getId(), limit);
+    }
+
+    private CoinHead join(CompletableFuture<CoinHead> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 코인 하나의 조회 묶음과 다음 묶음 존재 여부
+    private static class CoinHead {
+        private final Long coinId;
+        private final Deque<PostSummary> buffer = new ArrayDeque<>();
+        private boolean mayHaveMore;
+
+        private CoinHead(Long coinId, List<PostSummary> rows, int requested) {
+            this.coinId = coinId;
+            refill(rows, requested);
+        }
+
+        private void refill(List<PostSummary> rows, int requested) {
+            buffer.addAll(rows);
+            mayHaveMore = rows.size() == requested;
+        }
+
+        private PostSummary peek() {
+            return buffer.peekFirst();
+        }
+
+        private PostSummary poll() {
+            return buffer.pollFirst();
+        }
+
+        private boolean hasBuffered() {
+            return !buffer.isEmpty();
+        }
+
+        private boolean mayHaveMore() {
+            return mayHaveMore;
+        }
+    }
+}
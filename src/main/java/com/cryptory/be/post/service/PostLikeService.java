@@ -0,0 +1,127 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.TransactionUtils;
+import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.post.domain.PostLike;
+import com.cryptory.be.post.domain.PostLikeCounter;
+import com.cryptory.be.post.dto.PostLikeDto;
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import com.cryptory.be.post.repository.PostLikeCounterRepository;
+import com.cryptory.be.post.repository.PostLikeRepository;
+import com.cryptory.be.post.repository.PostRepository;
+import com.cryptory.be.user.domain.User;
+import com.cryptory.be.user.exception.UserErrorCode;
+import com.cryptory.be.user.exception.UserException;
+import com.cryptory.be.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostLikeService {
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeCounterRepository postLikeCounterRepository;
+    private final PostLikerCache postLikerCache;
+    private final PostDetailCache postDetailCache;
+    private final PostTrendingTracker postTrendingTracker;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${post.like.shards:16}")
+    private int shards;
+
+    public PostLikeDto getLike(Long postId, String userId) {
+        User user = getUser(userId);
+        return new PostLikeDto(getLikeCount(postId), postLikerCache.contains(postId, user.getId()));
+    }
+
+    @Transactional
+    public PostLikeDto like(Long postId, String userId) {
+        User user = getUser(userId);
+        Post post = getPost(postId);
+
+        // 메모리 집합은 인스턴스마다 따로라서 참고만 하고, 중복 여부는 유니크 키로 판단
+        try {
+            postLikeRepository.saveAndFlush(new PostLike(postId, user.getId()));
+        } catch (DataIntegrityViolationException e) {
+            postLikerCache.add(postId, user.getId());
+            throw new PostException(PostErrorCode.ALREADY_LIKED_POST);
+        }
+        addToRandomShard(postId, 1);
+
+        // 커밋된 경우에만 메모리 집합에 반영
+        TransactionUtils.afterCommit(() -> postLikerCache.add(postId, user.getId()));
+        postDetailCache.adjustLikes(postId, 1);
+        postTrendingTracker.recordLike(post.getCoinId(), postId);
+
+        return new PostLikeDto(getLikeCount(postId), true);
+    }
+
+    @Transactional
+    public PostLikeDto unlike(Long postId, String userId) {
+        User user = getUser(userId);
+
+        // 다른 인스턴스에서 누른 좋아요도 있으므로 실제로 지운 행 수로 판단
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, user.getId()) == 0) {
+            postLikerCache.remove(postId, user.getId());
+            throw new PostException(PostErrorCode.NOT_LIKED_POST);
+        }
+        addToRandomShard(postId, -1);
+        postDetailCache.adjustLikes(postId, -1);
+
+        TransactionUtils.afterCommit(() -> postLikerCache.remove(postId, user.getId()));
+
+        return new PostLikeDto(getLikeCount(postId), false);
+    }
+
+    public long getLikeCount(Long postId) {
+        return postLikeCounterRepository.sumByPostId(postId);
+    }
+
+    // 임의의 샤드 행 하나만 갱신 (행이 없으면 먼저 0으로 생성한 뒤 갱신)
+    private void addToRandomShard(Long postId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+
+        if (postLikeCounterRepository.addDelta(postId, shard, delta) == 0) {
+            seedShard(postId, shard);
+            postLikeCounterRepository.addDelta(postId, shard, delta);
+        }
+    }
+
+    // 같은 샤드의 첫 좋아요가 동시에 오면 한쪽은 키 중복으로 실패하지만 이미 행이 있으므로 그대로 진행
+    private void seedShard(Long postId, int shard) {
+        TransactionTemplate seedTransaction = new TransactionTemplate(transactionManager);
+        seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            seedTransaction.executeWithoutResult(status ->
+                    postLikeCounterRepository.saveAndFlush(new PostLikeCounter(postId, shard, 0L)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("게시글 {} 좋아요 샤드 {} 행을 다른 요청이 먼저 생성", postId, shard);
+        }
+    }
+
+    private User getUser(String userId) {
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
+    }
+
+    private Post getPost(Long postId) {
+        return postRepository.findById(postId)
+                .filter(Post::isNotDeleted)
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_POST));
+    }
+}
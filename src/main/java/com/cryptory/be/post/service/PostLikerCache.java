@@ -0,0 +1,72 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 게시글별 좋아요 누른 사용자 집합 (User 대리키(TSID, 53비트)를 Roaring64Bitmap으로 압축 보관)
+// 좋아요 여부 확인을 DB 조회 없이 처리, 원본은 post_likes 테이블
+@Component
+@RequiredArgsConstructor
+public class PostLikerCache {
+
+    private final PostLikeRepository postLikeRepository;
+
+    @Value("${post.like.cache.max-posts:10000}")
+    private int maxPosts;
+
+    // 접근 순서 기준 LRU (최대 maxPosts개 게시글만 유지)
+    private final Map<Long, Roaring64Bitmap> likers = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Roaring64Bitmap> eldest) {
+                    return size() > maxPosts;
+                }
+            });
+
+    public boolean contains(Long postId, Long userId) {
+        Roaring64Bitmap bitmap = load(postId);
+        synchronized (bitmap) {
+            return bitmap.contains(userId);
+        }
+    }
+
+    public void add(Long postId, Long userId) {
+        Roaring64Bitmap bitmap = likers.get(postId);
+        if (bitmap != null) {
+            synchronized (bitmap) {
+                bitmap.addLong(userId);
+            }
+        }
+    }
+
+    public void remove(Long postId, Long userId) {
+        Roaring64Bitmap bitmap = likers.get(postId);
+        if (bitmap != null) {
+            synchronized (bitmap) {
+                bitmap.removeLong(userId);
+            }
+        }
+    }
+
+    private Roaring64Bitmap load(Long postId) {
+        Roaring64Bitmap bitmap = likers.get(postId);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        Roaring64Bitmap loaded = new Roaring64Bitmap();
+        postLikeRepository.findUserIdsByPostId(postId)
+                .forEach(userId -> loaded.addLong(userId));
+        loaded.runOptimize();
+
+        Roaring64Bitmap existing = likers.putIfAbsent(postId, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
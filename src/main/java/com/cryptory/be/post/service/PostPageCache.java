@@ -0,0 +1,128 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.datasource.PrimaryReads;
+import com.cryptory.be.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 코인 게시판 앞쪽 페이지 응답(JSON 직렬화 결과) 캐시
+// 전체 바이트 수 기준 LRU로 제한
+// 키에 게시판 버전(ETag와 같은 값)을 넣어서 커밋과 무효화 사이에 들어온 요청도 새 ETag로 이전 바이트를 받지 않음
+// 무효화는 이전 버전 항목의 메모리를 바로 돌려받기 위한 것
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPageCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.page-cache.pages:3}")
+    private int cachedPages;
+
+    @Value("${post.page-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    private final LinkedHashMap<PageKey, byte[]> pages = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytesHeld = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @PostConstruct
+    protected void registerMetrics() {
+        Gauge.builder("post.page.cache.hit.ratio", this, PostPageCache::getHitRatio)
+                .description("게시판 페이지 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("post.page.cache.bytes", this, PostPageCache::getBytesHeld)
+                .description("게시판 페이지 캐시 보관 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isCacheable(int page) {
+        return page < cachedPages;
+    }
+
+    public byte[] get(Long coinId, Long boardVersion, int page, int size, Supplier<byte[]> loader) {
+        PageKey key = new PageKey(coinId, boardVersion, page, size);
+
+        synchronized (this) {
+            byte[] cached = pages.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        // 키의 게시판 버전을 primary에서 읽으므로 내용도 primary에서 적재 (replica 지연 중 이전 목록이 새 버전으로 저장되지 않게)
+        byte[] loaded = PrimaryReads.call(loader);
+
+        synchronized (this) {
+            if (loaded.length <= maxBytes) {
+                byte[] previous = pages.put(key, loaded);
+                bytesHeld += loaded.length - (previous == null ? 0 : previous.length);
+                evictOverflow();
+            }
+        }
+        return loaded;
+    }
+
+    // 커밋 이후에 무효화해야 다른 요청이 커밋 전 데이터를 다시 캐시하지 않음
+    public void invalidate(Long coinId) {
+        TransactionUtils.afterCommit(() -> evict(coinId));
+    }
+
+    // 닉네임 변경 등 코인을 특정할 수 없는 변경
+    public void invalidateAll() {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (this) {
+                pages.clear();
+                bytesHeld = 0;
+            }
+        });
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public synchronized long getBytesHeld() {
+        return bytesHeld;
+    }
+
+    private synchronized void evict(Long coinId) {
+        Iterator<Map.Entry<PageKey, byte[]>> iterator = pages.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PageKey, byte[]> entry = iterator.next();
+            if (entry.getKey().coinId().equals(coinId)) {
+                bytesHeld -= entry.getValue().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<PageKey, byte[]>> iterator = pages.entrySet().iterator();
+        while (bytesHeld > maxBytes && iterator.hasNext()) {
+            bytesHeld -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+    }
+
+    private record PageKey(Long coinId, Long boardVersion, int page, int size) {
+    }
+}
@@ -0,0 +1,289 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.TransactionUtils;
+import com.cryptory.be.post.dto.PostSearchDocument;
+import com.cryptory.be.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+// 게시글 제목/본문 역색인 (Lucene, 디스크 세그먼트라 재시작 후에도 유지)
+// 한글은 CJK bigram(2-gram)으로 색인해서 형태소 분석기 없이 부분 일치 검색
+// 인스턴스마다 색인을 따로 가지므로, 다른 인스턴스에서 쓰였거나 내려가 있던 동안 바뀐 게시글은
+// 변경 시각(updatedAt) 기준으로 주기적으로 따라잡음 (마지막 위치는 색인 커밋 데이터에 저장)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String ID = "id";
+    private static final String COIN_ID = "coinId";
+    private static final String TITLE = "title";
+    private static final String BODY = "body";
+
+    private static final float TITLE_BOOST = 2.0f;
+
+    // 색인 커밋 데이터 키: 여기까지 반영한 게시글 변경 시각
+    private static final String CHANGED_UNTIL = "changedUntil";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final PostRepository postRepository;
+
+    @Value("${post.search.index-dir:/app/search-index}")
+    private String indexDir;
+
+    @Value("${post.search.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    // 다른 인스턴스의 커밋이 늦게 보이거나 시계가 어긋나도 놓치지 않도록 마지막 위치보다 앞에서부터 다시 읽음
+    @Value("${post.search.catch-up-overlap-seconds:300}")
+    private long catchUpOverlapSeconds;
+
+    // 관련도 순으로 볼 수 있는 최대 순위 (깊은 페이지 요청이 큰 우선순위 큐를 만들지 않도록)
+    @Value("${post.search.max-results:1000}")
+    private int maxResults;
+
+    private volatile LocalDateTime changedUntil;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    protected void open() throws IOException {
+        analyzer = new CJKAnalyzer(CharArraySet.EMPTY_SET);
+        directory = FSDirectory.open(Paths.get(indexDir));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 시작 시 백그라운드로 따라잡기 (색인이 비어 있으면 처음부터 = 재구축)
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        CompletableFuture.runAsync(this::catchUp);
+    }
+
+    // 마지막으로 반영한 변경 시각 이후 생성/수정/삭제된 게시글을 색인에 반영
+    @Scheduled(fixedDelayString = "${post.search.catch-up-interval-ms:60000}",
+            initialDelayString = "${post.search.catch-up-interval-ms:60000}")
+    public synchronized void catchUp() {
+        LocalDateTime from = readChangedUntil();
+        LocalDateTime updatedAt = from == null ? BEGINNING : from.minusSeconds(catchUpOverlapSeconds);
+        long afterId = 0L;
+        long applied = 0L;
+
+        try {
+            List<PostSearchDocument> batch;
+            do {
+                batch = postRepository.findSearchDocumentsChangedAfter(updatedAt, afterId,
+                        PageRequest.of(0, rebuildBatchSize));
+                for (PostSearchDocument document : batch) {
+                    Term id = new Term(ID, document.getId().toString());
+                    if (document.isDeleted()) {
+                        writer.deleteDocuments(id);
+                    } else {
+                        writer.updateDocument(id, toDocument(document));
+                    }
+                    updatedAt = document.getUpdatedAt();
+                    afterId = document.getId();
+                }
+                applied += batch.size();
+            } while (batch.size() == rebuildBatchSize);
+
+            if (from == null || updatedAt.isAfter(from)) {
+                changedUntil = updatedAt;
+                writer.setLiveCommitData(Map.of(CHANGED_UNTIL, updatedAt.toString()).entrySet());
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            if (from == null) {
+                log.info("게시글 검색 색인 재구축 완료 ({}건)", applied);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("게시글 검색 색인 따라잡기 실패", e);
+        }
+    }
+
+    // 게시글 생성/수정: 커밋 이후 색인 반영
+    public void index(PostSearchDocument document) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                writer.updateDocument(new Term(ID, document.getId().toString()), toDocument(document));
+            } catch (IOException e) {
+                log.error("게시글 색인 실패 (postId: {})", document.getId(), e);
+            }
+        });
+    }
+
+    public void delete(Long postId) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                writer.deleteDocuments(new Term(ID, postId.toString()));
+            } catch (IOException e) {
+                log.error("게시글 색인 삭제 실패 (postId: {})", postId, e);
+            }
+        });
+    }
+
+    // 일괄 삭제: 커밋 후 한 번에 반영
+    public void delete(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            try {
+                writer.deleteDocuments(postIds.stream()
+                        .map(postId -> new Term(ID, postId.toString()))
+                        .toArray(Term[]::new));
+            } catch (IOException e) {
+                log.error("게시글 색인 일괄 삭제 실패 ({}건)", postIds.size(), e);
+            }
+        });
+    }
+
+    // 관련도 순 게시글 ID (offset부터 limit개, 최대 max-results 순위까지)
+    public List<Long> search(Long coinId, String keyword, long offset, int limit) {
+        Query query = buildQuery(coinId, keyword);
+        if (query == null || offset >= maxResults) {
+            return List.of();
+        }
+        int topN = (int) Math.min(offset + limit, maxResults);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, topN).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+
+                List<Long> ids = new ArrayList<>();
+                for (int i = (int) offset; i < hits.length; i++) {
+                    ids.add(Long.parseLong(storedFields.document(hits[i].doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.error("게시글 검색 실패 (coinId: {}, q: {})", coinId, keyword, e);
+            throw new RuntimeException("게시글 검색 중 오류 발생", e);
+        }
+    }
+
+    // 새로 색인된 문서를 검색 대상에 반영 (near real-time)
+    @Scheduled(fixedDelayString = "${post.search.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    // 디스크 세그먼트로 확정
+    @Scheduled(fixedDelayString = "${post.search.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    // 처음 한 번은 마지막 색인 커밋 데이터에서 읽음 (없으면 아직 따라잡은 적 없음)
+    private LocalDateTime readChangedUntil() {
+        if (changedUntil == null && writer.getDocStats().numDocs > 0) {
+            Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+            if (commitData != null) {
+                for (Map.Entry<String, String> entry : commitData) {
+                    if (CHANGED_UNTIL.equals(entry.getKey())) {
+                        changedUntil = LocalDateTime.parse(entry.getValue());
+                    }
+                }
+            }
+        }
+        return changedUntil;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    // 검색어의 모든 n-gram이 제목 또는 본문에 있어야 일치 (제목 가중치 부여)
+    private Query buildQuery(Long coinId, String keyword) {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(COIN_ID, coinId.toString())), BooleanClause.Occur.FILTER);
+
+        for (String term : terms) {
+            builder.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(BODY, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(BODY, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new RuntimeException("검색어 분석 중 오류 발생", e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(PostSearchDocument post) {
+        Document document = new Document();
+        document.add(new StringField(ID, post.getId().toString(), Field.Store.YES));
+        document.add(new StringField(COIN_ID, post.getCoinId().toString(), Field.Store.NO));
+        document.add(new TextField(TITLE, nullToEmpty(post.getTitle()), Field.Store.NO));
+        document.add(new TextField(BODY, nullToEmpty(post.getBody()), Field.Store.NO));
+        return document;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
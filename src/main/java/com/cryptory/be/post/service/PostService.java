@@ -1,29 +1,39 @@
 package com.cryptory.be.post.service;
 
+import com.cryptory.be.global.datasource.PrimaryReads;
 import com.cryptory.be.global.util.DateFormat;
-import com.cryptory.be.global.util.FileUtils;
+import com.cryptory.be.global.util.ImageVariantGenerator;
+import com.cryptory.be.global.util.TransactionUtils;
 import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.post.domain.PostBody;
 import com.cryptory.be.post.domain.PostFile;
 import com.cryptory.be.post.dto.*;
 import com.cryptory.be.post.exception.PostErrorCode;
 import com.cryptory.be.post.exception.PostException;
+import com.cryptory.be.post.repository.PostBodyMigration;
+import com.cryptory.be.post.repository.PostBodyRepository;
 import com.cryptory.be.post.repository.PostFileRepository;
 import com.cryptory.be.post.repository.PostRepository;
 import com.cryptory.be.user.domain.User;
 import com.cryptory.be.user.exception.UserErrorCode;
 import com.cryptory.be.user.exception.UserException;
+import com.cryptory.be.user.repository.CoinWatchRepository;
 import com.cryptory.be.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,67 +42,140 @@ import java.util.List;
 public class PostService {
 
     private final UserRepository userRepository;
+    private final CoinWatchRepository coinWatchRepository;
     private final PostRepository postRepository;
+    private final PostBodyRepository postBodyRepository;
+    private final PostBodyMigration postBodyMigration;
     private final PostFileRepository postFileRepository;
-    private final FileUtils fileUtils;
+    private final PostCountService postCountService;
+    private final PostViewCounter postViewCounter;
+    private final PostCommentCounter postCommentCounter;
+    private final PostViewDeduplicator postViewDeduplicator;
+    private final PostPageCache postPageCache;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailReader postDetailReader;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTrendingTracker postTrendingTracker;
+    private final PostFeedMerger postFeedMerger;
+    private final PostUploadService postUploadService;
+    private final ImageVariantGenerator imageVariantGenerator;
 
 
     public PostListDto getPosts(Long coinId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> postsPage = postRepository.findAllByCoinId(coinId, pageable);
+        List<PostDto> posts = postRepository.findActiveByCoinId(coinId, pageable).stream()
+                .map(this::toPostDto)
+                .toList();
 
-        List<PostDto> posts = postsPage.stream()
-                .filter(Post::isNotDeleted)
-                .map(post -> new PostDto(
-                        post.getId(),
-                        post.getTitle(),
-                        post.getUser().getNickname(),
-                        DateFormat.formatDate(post.getCreatedAt())
-                )).toList();
-
-        long totalItems = getTotalItems(coinId);
-        int totalPages = getTotalPages(coinId, size);
+        long totalItems = postCountService.getCount(coinId);
+        int totalPages = getTotalPages(totalItems, size);
 
         return new PostListDto(posts, totalItems, totalPages);
     }
 
+    // 검색 색인에서 관련도 순 ID를 받아 목록 행을 한 번에 조회
+    public List<PostDto> searchPosts(Long coinId, String keyword, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new PostException(PostErrorCode.EMPTY_SEARCH_KEYWORD);
+        }
+
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+
+        List<Long> ids = postSearchIndex.search(coinId, keyword, (long) page * size, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(this::toPostDto)
+                .toList();
+    }
+
+    // 인기 게시글: 메모리의 점수 순 ID로 목록 행을 한 번에 조회
+    public List<PostDto> getTrendingPosts(Long coinId, int size) {
+        List<Long> ids = postTrendingTracker.getTopPostIds(coinId, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(this::toPostDto)
+                .toList();
+    }
+
+    // 커서 기반 목록 조회: 스크롤 깊이와 상관없이 동일한 seek 쿼리
+    public PostSliceDto getPostsByCursor(Long coinId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<PostSummary> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = postRepository.findFirstSlice(coinId, limit);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            fetched = postRepository.findSliceAfter(coinId, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        return toSlice(fetched, size);
+    }
+
+    // 관심 코인 피드: 코인별 keyset 조회를 최신 순으로 병합
+    // 병합 순서가 (createdAt, id)로 전체 정렬이라 마지막 글 위치 하나로 모든 코인의 다음 위치가 정해짐
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostSliceDto getFeed(String userId, String cursor, int size) {
+        User user = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
+
+        List<Long> coinIds = coinWatchRepository.findCoinIdsByUserId(user.getId());
+        PostCursor after = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 병합
+        List<PostSummary> fetched = postFeedMerger.merge(coinIds, after, size + 1);
+        return toSlice(fetched, size);
+    }
+
 
     @Transactional
-    public PostDto createPost(Long coinId, String userId, CreatePostDto createPostDto, List<MultipartFile> files) {
+    public PostDto createPost(Long coinId, String userId, CreatePostDto createPostDto) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
 
         Post post = postRepository.save(Post.builder()
                 .title(createPostDto.getTitle())
-                .body(createPostDto.getBody())
                 .user(user)
                 .coinId(coinId)
                 .build());
+        postBodyRepository.save(new PostBody(post.getId(), createPostDto.getBody()));
 
-        // 파일이 존재하는 경우
-        if (files != null) {
-            for (MultipartFile file : files) {
-                String storedDir = fileUtils.saveFile(file);
-
-                String fileType = storedDir.substring(storedDir.lastIndexOf(".") + 1);
+        postCountService.increase(coinId);
+        postPageCache.invalidate(coinId);
+        postSearchIndex.index(new PostSearchDocument(post.getId(), coinId, post.getTitle(), createPostDto.getBody()));
 
-                PostFile postFile = PostFile.builder()
-                        .originalFilename(file.getOriginalFilename())
-                        .storedDir(storedDir)
-                        .storedFilename(fileUtils.getStoredFileName(storedDir))
-                        .post(post)
-                        .fileType(fileType)
-                        .build();
-
-                postFileRepository.save(postFile);
-            }
+        // 분할 업로드를 완료한 파일 첨부 (ID가 INSERT 전에 정해지므로 한 번의 JDBC batch로 저장)
+        if (createPostDto.getUploadIds() != null && !createPostDto.getUploadIds().isEmpty()) {
+            List<PostFile> postFiles = postUploadService.attach(user, post, createPostDto.getUploadIds());
+            postFileRepository.saveAll(postFiles);
+            generateVariants(post.getId(), postFiles);
         }
 
         return new PostDto(
                 post.getId(),
                 post.getTitle(),
                 post.getUser().getNickname(),
-                DateFormat.formatDate(post.getCreatedAt())
+                DateFormat.formatDate(post.getCreatedAt()),
+                0L
         );
     }
 
@@ -101,44 +184,117 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_POST));
 
-        post.delete();
+        if (post.isNotDeleted()) {
+            post.delete();
+            postCountService.decrease(post.getCoinId(), 1);
+            postPageCache.invalidate(post.getCoinId());
+            postDetailCache.invalidate(postId);
+            postSearchIndex.delete(postId);
+            postTrendingTracker.remove(post.getCoinId(), postId);
+        }
     }
 
 
-    @Transactional
-    public PostDetailDto getPost(Long coinId, Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_POST));
+    // 상세 캐시 적중 시 DB 접근이 없도록 트랜잭션을 시작하지 않음 (미스일 때만 PostDetailReader에서 조회)
+    // 조회수는 PostViewCounter에 모았다가 비동기로 일괄 반영
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostDetailDto getPost(Long coinId, Long postId, String viewerKey) {
+        PostDetailCache.Entry entry = postDetailCache.get(postId, () -> postDetailReader.read(postId));
+
+        // 같은 사용자(IP)의 반복 조회는 시간 창 안에서 한 번만 집계
+        if (postViewDeduplicator.isFirstView(postId, viewerKey)) {
+            postViewCounter.increase(postId);
+            entry.addView();
+            postTrendingTracker.recordView(entry.getCoinId(), postId);
+        }
 
-        post.increaseViewCnt();
+        return entry.toDto();
+    }
 
-        List<PostFileDto> postFiles = postFileRepository.findAllByPostId(postId).stream()
-                .map(postFile -> new PostFileDto(
-                        postFile.getId(),
-                        postFile.getOriginalFilename(),
-                        postFile.getStoredDir(),
-                        DateFormat.formatDate(postFile.getCreatedAt())
-                )).toList();
+    // 페이지 캐시 키로 쓰이므로 primary에서 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostVersionDto getBoardVersion(Long coinId) {
+        return PrimaryReads.call(() -> postCountService.getBoardVersion(coinId));
+    }
 
-        return new PostDetailDto(post.getTitle(), post.getBody(), post.getUser().getNickname(), DateFormat.formatDate(post.getCreatedAt()), postFiles, post.getViewCnt(), post.getLikeCnt());
+    // 상세 캐시 기준 버전 (조회수/좋아요/댓글 수 포함), 캐시에 없으면 적재해서 이어지는 getPost가 그대로 사용
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostVersionDto getPostVersion(Long postId) {
+        PostDetailCache.Entry entry = postDetailCache.get(postId, () -> postDetailReader.read(postId));
+        return entry.toVersionDto(entry.toDto());
     }
 
     @Transactional
     public void updatePost(Long coinId, Long postId, UpdatePostDto updatePostDto) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findForUpdateById(postId)
                 .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_POST));
 
-        post.update(updatePostDto.getTitle(), updatePostDto.getBody());
+        post.update(updatePostDto.getTitle());
+        // 아직 이관하지 않은 게시글은 기존 본문을 먼저 옮김 (이후 이관 작업은 이 게시글을 건너뜀)
+        PostBody body = postBodyRepository.findById(postId)
+                .orElseGet(() -> postBodyRepository.save(
+                        new PostBody(postId, postBodyMigration.findLegacyBody(postId).orElse(null))));
+        body.update(updatePostDto.getBody());
+        postRepository.touch(postId, LocalDateTime.now());
+
+        postCountService.touch(post.getCoinId());
+        postPageCache.invalidate(post.getCoinId());
+        postDetailCache.invalidate(postId);
+        postSearchIndex.index(new PostSearchDocument(post.getId(), post.getCoinId(), post.getTitle(), body.getBody()));
 
         // todo: 파일 업데이트(클라이언트 요청에 따라)
     }
 
-    private long getTotalItems(Long coinId) {
-        return postRepository.countByCoinId(coinId);  // 게시글 개수 반환
+    // 커밋 후 백그라운드에서 이미지 축소본 생성, 끝나면 파일 정보에 기록하고 해당 게시글 버전 증가 및 상세 캐시 무효화
+    private void generateVariants(Long postId, List<PostFile> postFiles) {
+        TransactionUtils.afterCommit(() -> postFiles.forEach(postFile ->
+                imageVariantGenerator.generateAsync(postFile.getStoredDir(), widths -> {
+                    String variantWidths = widths.stream()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(","));
+                    List<Long> postIds;
+                    if (postFile.getContentHash() != null) {
+                        // 같은 blob을 쓰는 다른 게시글의 파일 정보도 바뀌므로 그 게시글들 모두 갱신
+                        postFileRepository.updateVariantWidthsByContentHash(postFile.getContentHash(), variantWidths);
+                        postIds = postFileRepository.findPostIdsByContentHash(postFile.getContentHash());
+                    } else {
+                        postFileRepository.updateVariantWidthsById(postFile.getId(), variantWidths);
+                        postIds = List.of(postId);
+                    }
+                    postRepository.increaseVersions(postIds, LocalDateTime.now());
+                    postDetailCache.invalidate(postIds);
+                })));
+    }
+
+    // size + 1건 조회 결과를 한 페이지와 다음 커서로 변환
+    private PostSliceDto toSlice(List<PostSummary> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<PostSummary> slice = hasNext ? fetched.subList(0, size) : fetched;
+
+        List<PostDto> posts = slice.stream()
+                .map(this::toPostDto)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummary last = slice.get(slice.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new PostSliceDto(posts, nextCursor);
+    }
+
+    private PostDto toPostDto(PostSummary summary) {
+        return new PostDto(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getNickname(),
+                DateFormat.formatDate(summary.getCreatedAt()),
+                summary.getCommentCnt() + postCommentCounter.getPending(summary.getId())
+        );
     }
 
-    private int getTotalPages(Long coinId, int size) {
-        long totalItems = getTotalItems(coinId);  // 전체 아이템 개수
+    private int getTotalPages(long totalItems, int size) {
         return (int) Math.ceil((double) totalItems / size);  // 전체 아이템 수로 총 페이지 수 계산
     }
 
@@ -0,0 +1,247 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.TransactionUtils;
+import com.cryptory.be.post.repository.PostLikeCounterRepository;
+import com.cryptory.be.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 코인별 인기 게시글 (조회/좋아요/댓글 가중치 합, 반감기 기준 지수 감쇠)
+// 점수를 기준 시각(landmark) 대비 exp(λ(t - landmark))로 키워서 저장하면 모든 점수를 매번 감쇠시키지 않아도 순위가 유지됨 (forward decay)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTrendingTracker {
+
+    // exp 값이 너무 커지기 전에 기준 시각을 옮기고 점수를 재조정 (e^30 ≈ 1e13)
+    private static final double MAX_EXPONENT = 30.0;
+
+    private final PostRepository postRepository;
+    private final PostLikeCounterRepository postLikeCounterRepository;
+
+    @Value("${post.trending.half-life-minutes:360}")
+    private long halfLifeMinutes;
+
+    @Value("${post.trending.top-k:50}")
+    private int topK;
+
+    // 코인별 후보 수 상한 (초과하면 낮은 점수부터 제거)
+    @Value("${post.trending.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Value("${post.trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${post.trending.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${post.trending.weight.comment:3}")
+    private double commentWeight;
+
+    @Value("${post.trending.rebuild-window-hours:72}")
+    private long rebuildWindowHours;
+
+    @Value("${post.trending.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    // coinId -> (postId -> 기준 시각 대비 점수)
+    private final Map<Long, Map<Long, Double>> scores = new ConcurrentHashMap<>();
+    private volatile long landmarkMillis = System.currentTimeMillis();
+    // 점수 반영(read)은 동시에, 기준 시각 이동(write)은 단독으로
+    // 이동 전 기준 시각으로 키운 점수가 재조정 이후에 더해지면 e^30배 큰 점수가 남음
+    private final ReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+
+    public void recordView(Long coinId, Long postId) {
+        add(coinId, postId, viewWeight);
+    }
+
+    // 롤백된 좋아요/댓글이 반영되지 않도록 커밋 후 반영
+    public void recordLike(Long coinId, Long postId) {
+        TransactionUtils.afterCommit(() -> add(coinId, postId, likeWeight));
+    }
+
+    public void recordComment(Long coinId, Long postId) {
+        TransactionUtils.afterCommit(() -> add(coinId, postId, commentWeight));
+    }
+
+    public void remove(Long coinId, Long postId) {
+        TransactionUtils.afterCommit(() -> {
+            Map<Long, Double> coinScores = scores.get(coinId);
+            if (coinScores != null) {
+                coinScores.remove(postId);
+            }
+        });
+    }
+
+    // 코인을 모를 때 (관리자 일괄 삭제)
+    public void remove(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> scores.values().forEach(coinScores -> coinScores.keySet().removeAll(postIds)));
+    }
+
+    // 점수 높은 순 게시글 ID (최대 top-k개)
+    public List<Long> getTopPostIds(Long coinId, int size) {
+        Map<Long, Double> coinScores = scores.get(coinId);
+        if (coinScores == null || coinScores.isEmpty()) {
+            return List.of();
+        }
+
+        int k = Math.min(size, topK);
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : coinScores.entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        List<Map.Entry<Long, Double>> top = new ArrayList<>(heap);
+        top.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        return top.stream().map(Map.Entry::getKey).toList();
+    }
+
+    // 기준 시각 이동 + 후보 수 제한
+    @Scheduled(fixedDelayString = "${post.trending.maintain-interval-ms:60000}")
+    public void maintain() {
+        landmarkLock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (exponent(now) > MAX_EXPONENT) {
+                double factor = Math.exp(-exponent(now));
+                scores.values().forEach(coinScores -> coinScores.replaceAll((postId, score) -> score * factor));
+                landmarkMillis = now;
+            }
+
+            scores.values().forEach(this::trim);
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    // 재시작 후 최근 게시글의 누적 집계로 점수 복원
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    public void rebuild() {
+        log.info("인기 게시글 점수 복원 시작");
+        long now = System.currentTimeMillis();
+        LocalDateTime afterCreatedAt = LocalDateTime.now().minusHours(rebuildWindowHours);
+        long afterId = 0L;
+        long restored = 0L;
+
+        try {
+            List<Object[]> batch;
+            do {
+                batch = postRepository.findActivitySince(afterCreatedAt, afterId, PageRequest.of(0, rebuildBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                List<Long> postIds = batch.stream().map(row -> (Long) row[0]).toList();
+                Map<Long, Long> likes = new HashMap<>();
+                for (Object[] row : postLikeCounterRepository.sumGroupByPostIds(postIds)) {
+                    likes.put((Long) row[0], ((Number) row[1]).longValue());
+                }
+
+                for (Object[] row : batch) {
+                    Long postId = (Long) row[0];
+                    LocalDateTime createdAt = (LocalDateTime) row[4];
+                    double raw = viewWeight * (Long) row[2]
+                            + commentWeight * (Long) row[3]
+                            + likeWeight * likes.getOrDefault(postId, 0L);
+
+                    if (raw > 0) {
+                        long createdMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                        add((Long) row[1], postId, raw * spreadFactor(now - createdMillis));
+                        restored++;
+                    }
+
+                    afterCreatedAt = createdAt;
+                    afterId = postId;
+                }
+            } while (batch.size() == rebuildBatchSize);
+
+            maintain();
+            log.info("인기 게시글 점수 복원 완료 ({}건)", restored);
+        } catch (RuntimeException e) {
+            log.error("인기 게시글 점수 복원 실패", e);
+        }
+    }
+
+    private void add(Long coinId, Long postId, double weight) {
+        landmarkLock.readLock().lock();
+        try {
+            double scaled = weight * Math.exp(exponent(System.currentTimeMillis()));
+            Map<Long, Double> coinScores = scores.computeIfAbsent(coinId, id -> new ConcurrentHashMap<>());
+            coinScores.merge(postId, scaled, Double::sum);
+
+            // 정리 주기 사이에도 후보 수가 상한의 두 배를 넘지 않도록
+            if (coinScores.size() > maxCandidates * 2) {
+                trim(coinScores);
+            }
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    // 상한을 넘는 후보는 점수 낮은 순으로 제거
+    private void trim(Map<Long, Double> coinScores) {
+        int excess = coinScores.size() - maxCandidates;
+        if (excess <= 0) {
+            return;
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(excess + 1,
+                Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+        for (Map.Entry<Long, Double> entry : coinScores.entrySet()) {
+            if (heap.size() < excess) {
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            } else if (entry.getValue() < heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        heap.forEach(entry -> coinScores.remove(entry.getKey()));
+    }
+
+    // 기준 시각부터 경과한 반감기 수 * ln2
+    private double exponent(long nowMillis) {
+        return decayRate() * (nowMillis - landmarkMillis);
+    }
+
+    private double decayRate() {
+        return Math.log(2) / (halfLifeMinutes * 60_000.0);
+    }
+
+    // 작성 이후 이벤트가 고르게 발생했다고 가정한 현재 시점 감쇠 계수: (1 - e^(-λa)) / λa
+    private double spreadFactor(long ageMillis) {
+        double x = decayRate() * Math.max(ageMillis, 1L);
+        return (1 - Math.exp(-x)) / x;
+    }
+}
@@ -0,0 +1,350 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.FileUtils;
+import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.post.domain.PostFile;
+import com.cryptory.be.post.domain.PostUpload;
+import com.cryptory.be.post.domain.UploadStatus;
+import com.cryptory.be.post.dto.InitiateUploadDto;
+import com.cryptory.be.post.dto.PostUploadDto;
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import com.cryptory.be.post.repository.PostFileRepository;
+import com.cryptory.be.post.repository.PostUploadRepository;
+import com.cryptory.be.user.domain.User;
+import com.cryptory.be.user.exception.UserErrorCode;
+import com.cryptory.be.user.exception.UserException;
+import com.cryptory.be.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 첨부 파일 분할 업로드: 시작 -> 위치 지정 조각 전송(PUT, 반복) -> 완료
+// 조각은 임시 파일의 해당 위치에 바로 기록하고, 연결이 끊기면 받은 크기부터 이어서 전송 (이미 받은 구간은 다시 쓰지 않음)
+// 저장소는 내용 해시(SHA-256) 기준이라 같은 내용은 blob 하나를 공유 (참조 수 = 같은 해시의 PostFile 수)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostUploadService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final UserRepository userRepository;
+    private final PostUploadRepository postUploadRepository;
+    private final PostFileRepository postFileRepository;
+    private final FileUtils fileUtils;
+
+    // 업로드별 해시 진행 상태: 순서대로 받은 조각은 기록하면서 바로 해시 (재시작 등으로 없으면 완료 시 파일을 읽어서 계산)
+    private final Map<Long, UploadDigest> digests = new ConcurrentHashMap<>();
+
+    // 공개 경로(/attach/files)와 분리된 임시 디렉터리
+    @Value("${post.upload.staging-dir:/app/upload-staging}")
+    private String stagingDir;
+
+    @Value("${post.upload.max-file-bytes:104857600}")
+    private long maxFileBytes;
+
+    // 요청 하나가 스레드를 오래 잡지 않도록 조각 크기 제한
+    @Value("${post.upload.max-chunk-bytes:8388608}")
+    private long maxChunkBytes;
+
+    // 완료/첨부되지 않은 업로드 보관 시간
+    @Value("${post.upload.expire-hours:24}")
+    private long expireHours;
+
+    @PostConstruct
+    protected void createStagingDir() throws IOException {
+        Files.createDirectories(Paths.get(stagingDir));
+    }
+
+    @Transactional
+    public PostUploadDto initiate(String userId, InitiateUploadDto initiateUploadDto) {
+        User user = getUser(userId);
+
+        if (initiateUploadDto.getSize() <= 0 || initiateUploadDto.getSize() > maxFileBytes) {
+            throw new PostException(PostErrorCode.INVALID_UPLOAD_SIZE);
+        }
+
+        PostUpload upload = postUploadRepository.save(
+                new PostUpload(user.getId(), initiateUploadDto.getFilename(), initiateUploadDto.getSize()));
+
+        digests.put(upload.getId(), new UploadDigest(newDigest()));
+        return toDto(upload);
+    }
+
+    public PostUploadDto getUpload(String userId, Long uploadId) {
+        return toDto(getOwnedUpload(getUser(userId), uploadId));
+    }
+
+    // 파일 기록 중에는 DB 커넥션을 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostUploadDto writeChunk(String userId, Long uploadId, long offset, long contentLength, InputStream in) {
+        PostUpload upload = getOwnedUpload(getUser(userId), uploadId);
+
+        // 받은 구간을 덮어쓰면 해시한 내용과 파일 내용이 달라지므로 받은 크기 위치에서만 이어서 기록
+        if (upload.getStatus() != UploadStatus.UPLOADING || offset != upload.getReceivedSize()) {
+            throw new PostException(PostErrorCode.INVALID_UPLOAD_OFFSET);
+        }
+
+        // 이번 조각에서 받을 수 있는 최대 크기
+        long limit = Math.min(maxChunkBytes, upload.getTotalSize() - offset);
+        if (contentLength > limit) {
+            throw new PostException(PostErrorCode.INVALID_UPLOAD_SIZE);
+        }
+
+        long written = write(uploadId, offset, limit, in);
+        if (written > 0) {
+            postUploadRepository.advance(uploadId, offset, offset + written);
+        }
+
+        return toDto(postUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_UPLOAD)));
+    }
+
+    // 모두 받은 임시 파일을 저장소로 옮김 (이미 완료된 업로드는 그대로 반환)
+    @Transactional
+    public PostUploadDto complete(String userId, Long uploadId) {
+        PostUpload upload = getOwnedUpload(getUser(userId), uploadId);
+
+        if (upload.getStatus() != UploadStatus.UPLOADING) {
+            return toDto(upload);
+        }
+        if (!upload.isReceived()) {
+            throw new PostException(PostErrorCode.INCOMPLETE_UPLOAD);
+        }
+
+        Path staging = stagingPath(uploadId);
+        String contentHash = finishDigest(uploadId, upload.getTotalSize(), staging);
+
+        // 같은 blob을 정리 작업이 지우는 중이면 끝날 때까지 대기 (지운 뒤라면 storeBlob이 새로 저장)
+        postUploadRepository.findAllByContentHashForUpdate(contentHash);
+        upload.complete(fileUtils.storeBlob(staging, contentHash, upload.getOriginalFilename()), contentHash);
+        return toDto(upload);
+    }
+
+    // 게시글 작성 트랜잭션 안에서 완료된 업로드를 게시글 파일로 변환
+    @Transactional
+    public List<PostFile> attach(User user, Post post, List<Long> uploadIds) {
+        Set<Long> ids = new LinkedHashSet<>(uploadIds);
+        List<PostUpload> uploads = postUploadRepository.findCompletedByIdsAndUserId(ids, user.getId());
+        if (uploads.size() != ids.size()) {
+            throw new PostException(PostErrorCode.NOT_EXIST_UPLOAD);
+        }
+
+        List<PostFile> postFiles = new ArrayList<>(uploads.size());
+        for (PostUpload upload : uploads) {
+            String storedDir = upload.getStoredDir();
+
+            postFiles.add(PostFile.builder()
+                    .originalFilename(upload.getOriginalFilename())
+                    .storedDir(storedDir)
+                    .storedFilename(fileUtils.getStoredFileName(storedDir))
+                    .post(post)
+                    .fileType(storedDir.substring(storedDir.lastIndexOf(".") + 1))
+                    .contentHash(upload.getContentHash())
+                    .build());
+            upload.attach();
+        }
+        return postFiles;
+    }
+
+    // 기한 안에 게시글에 첨부되지 않은 업로드의 파일과 행 삭제
+    @Scheduled(cron = "${post.upload.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void cleanupExpired() {
+        LocalDateTime before = LocalDateTime.now().minusHours(expireHours);
+        List<UploadStatus> statuses = List.of(UploadStatus.UPLOADING, UploadStatus.COMPLETED);
+
+        List<PostUpload> expired;
+        do {
+            expired = postUploadRepository.findExpired(statuses, before, PageRequest.of(0, 500));
+            Set<Long> expiredIds = expired.stream().map(PostUpload::getId).collect(Collectors.toSet());
+            for (PostUpload upload : expired) {
+                if (upload.getStatus() == UploadStatus.COMPLETED) {
+                    deleteBlobIfUnreferenced(upload, expiredIds);
+                } else {
+                    deleteQuietly(stagingPath(upload.getId()));
+                }
+                digests.remove(upload.getId());
+            }
+            postUploadRepository.deleteAllInBatch(expired);
+        } while (!expired.isEmpty());
+    }
+
+    // 임시 파일의 offset 위치부터 최대 limit 바이트 기록 후 디스크에 반영
+    // 해시 상태가 있으면 같은 업로드의 조각 기록을 직렬화하고, 해시한 위치에서 이어지는 조각만 기록하면서 해시
+    private long write(Long uploadId, long offset, long limit, InputStream in) {
+        UploadDigest digest = digests.get(uploadId);
+        if (digest == null) {
+            return write(uploadId, offset, limit, in, null);
+        }
+
+        synchronized (digest) {
+            if (digest.position != offset) {
+                // 같은 위치로 동시에 온 조각 등: 이어서 해시할 수 없으므로 완료 시 파일에서 다시 계산
+                digests.remove(uploadId);
+                return write(uploadId, offset, limit, in, null);
+            }
+            try {
+                return write(uploadId, offset, limit, in, digest);
+            } catch (RuntimeException e) {
+                // 해시한 내용과 디스크 내용이 어긋났을 수 있으므로 완료 시 파일에서 다시 계산
+                digests.remove(uploadId);
+                throw e;
+            }
+        }
+    }
+
+    private long write(Long uploadId, long offset, long limit, InputStream in, UploadDigest digest) {
+        Path staging = stagingPath(uploadId);
+        try (FileChannel channel = FileChannel.open(staging, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            ByteBuffer buffer = ByteBuffer.wrap(chunk);
+            long position = offset;
+            long written = 0;
+
+            int read;
+            while ((read = in.read(chunk, 0, (int) Math.min(BUFFER_SIZE, limit - written + 1))) != -1) {
+                if (written + read > limit) {
+                    throw new PostException(PostErrorCode.INVALID_UPLOAD_SIZE);
+                }
+
+                if (digest != null) {
+                    digest.update(chunk, read);
+                }
+
+                buffer.clear().limit(read);
+                long bufferEnd = position + read;
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, bufferEnd - buffer.remaining());
+                }
+                position = bufferEnd;
+                written += read;
+            }
+
+            // 받은 크기를 늘리기 전에 내용이 디스크에 있어야 이어받기가 안전함
+            channel.force(false);
+            return written;
+        } catch (IOException e) {
+            log.error("업로드 조각 기록 실패 (staging: {})", staging, e);
+            throw new PostException(PostErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    // 기록하면서 계산한 해시가 전체를 덮으면 그대로 사용, 아니면 임시 파일을 한 번 읽어서 계산
+    // 기록 중 해시는 받은 크기 위치에서 이어지는 조각만 순서대로 반영하므로 파일 내용과 같음
+    private String finishDigest(Long uploadId, long totalSize, Path staging) {
+        UploadDigest digest = digests.remove(uploadId);
+        if (digest != null) {
+            synchronized (digest) {
+                if (digest.position == totalSize) {
+                    return HexFormat.of().formatHex(digest.messageDigest.digest());
+                }
+            }
+        }
+
+        try {
+            return FileUtils.sha256(staging);
+        } catch (IOException e) {
+            log.error("업로드 해시 계산 실패 (staging: {})", staging, e);
+            throw new PostException(PostErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    // 게시글 파일이나 (이번에 함께 지우지 않는) 다른 완료/첨부 업로드가 참조하지 않을 때만 blob 삭제
+    // 같은 해시의 업로드 행을 잠근 상태에서 판단하므로 동시에 완료된 업로드가 쓰려는 blob을 지우지 않음
+    private void deleteBlobIfUnreferenced(PostUpload upload, Set<Long> expiredIds) {
+        String contentHash = upload.getContentHash();
+        if (contentHash == null) {
+            fileUtils.deleteFile(upload.getStoredDir());
+            return;
+        }
+
+        boolean referencedByUpload = postUploadRepository.findAllByContentHashForUpdate(contentHash).stream()
+                .anyMatch(other -> !expiredIds.contains(other.getId()) && other.getStatus() != UploadStatus.UPLOADING);
+        boolean referenced = referencedByUpload || postFileRepository.countByContentHash(contentHash) > 0;
+        if (!referenced) {
+            fileUtils.deleteFile(upload.getStoredDir());
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 ({})", path, e);
+        }
+    }
+
+    private Path stagingPath(Long uploadId) {
+        return Paths.get(stagingDir, uploadId + ".part");
+    }
+
+    private PostUpload getOwnedUpload(User user, Long uploadId) {
+        return postUploadRepository.findById(uploadId)
+                .filter(upload -> upload.isOwnedBy(user.getId()))
+                .orElseThrow(() -> new PostException(PostErrorCode.NOT_EXIST_UPLOAD));
+    }
+
+    private User getUser(String userId) {
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
+    }
+
+    private PostUploadDto toDto(PostUpload upload) {
+        return new PostUploadDto(upload.getId(), upload.getOriginalFilename(), upload.getTotalSize(),
+                upload.getReceivedSize(), upload.getStatus());
+    }
+
+    // 앞에서부터 연속으로 해시한 위치
+    private static class UploadDigest {
+        private final MessageDigest messageDigest;
+        private long position;
+
+        private UploadDigest(MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+        }
+
+        // 해시한 위치 바로 뒤에 이어지는 조각만 호출됨
+        private void update(byte[] bytes, int length) {
+            messageDigest.update(bytes, 0, length);
+            position += length;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.DeltaBuffer;
+import com.cryptory.be.post.repository.PostCounterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 게시글 조회수 write-behind 버퍼
+// 조회마다 row UPDATE(락)를 하지 않고 메모리에 모았다가 주기적으로 한 번에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostCounterRepository postCounterRepository;
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    public void increase(Long postId) {
+        pending.add(postId, 1);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPending(Long postId) {
+        return pending.get(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postCounterRepository.addViewCounts(deltas);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            log.error("조회수 반영 실패 (게시글 {}건)", deltas.size(), e);
+            pending.restore(deltas);
+        }
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// (게시글, 사용자 또는 IP) 단위 중복 조회 제거
+// 시간 창마다 Bloom filter를 교체(현재/직전 2개 유지)해서 메모리를 고정 크기로 제한
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewDeduplicator {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.view.dedup.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${post.view.dedup.fpp:0.01}")
+    private double fpp;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    @PostConstruct
+    protected void init() {
+        this.current = new BloomFilter(expectedInsertions, fpp);
+        this.previous = new BloomFilter(expectedInsertions, fpp);
+
+        Gauge.builder("post.view.dedup.fpp", this, PostViewDeduplicator::getExpectedFpp)
+                .description("조회수 중복 제거 Bloom filter 추정 오탐률")
+                .register(meterRegistry);
+
+        log.info("조회 중복 제거 필터 초기화 (필터당 {} bits)", current.getBitSize());
+    }
+
+    // 현재 시간 창에서 처음 본 조회면 true
+    public boolean isFirstView(Long postId, String viewerKey) {
+        String key = postId + ":" + viewerKey;
+
+        // 직전 창에서 이미 본 조회는 제외 (중복 제거 구간은 window ~ 2 * window)
+        if (previous.mightContain(key)) {
+            return false;
+        }
+        return current.put(key);
+    }
+
+    @Scheduled(fixedRateString = "${post.view.dedup.window-ms:1800000}",
+            initialDelayString = "${post.view.dedup.window-ms:1800000}")
+    public void rotate() {
+        previous = current;
+        current = new BloomFilter(expectedInsertions, fpp);
+    }
+
+    public double getExpectedFpp() {
+        return current.expectedFpp();
+    }
+}
@@ -0,0 +1,211 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.global.util.FileUtils;
+import com.cryptory.be.global.util.ImageVariantGenerator;
+import com.cryptory.be.global.util.StorageLayout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+// 날짜 폴더에 쌓인 기존 파일(게시글 첨부, 프로필 이미지)을 해시 분산 폴더(/files/aa/bb/)로 이관
+// file.upload.layout-migration.enabled=true 인 인스턴스 하나에서만 실행 (이미 옮긴 행은 건너뛰므로 중단 후 다시 실행해도 안전)
+// 배치마다 1) 새 경로에 병렬로 링크 2) 참조 경로 변경 + 게시글 버전 증가를 한 트랜잭션의 JDBC batch로 3) 기존 경로 삭제
+// 기존 경로로 오는 요청은 AttachmentSender가 새 위치로 연결하므로 삭제 후에도 끊기지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoredFileMigration {
+
+    private static final String IMAGE_PATH = "/attach/files";
+
+    private static final String SELECT_POST_FILES_SQL = "SELECT id, post_id, stored_dir FROM post_files " +
+            "WHERE id > ? AND stored_dir NOT LIKE '/files/%' AND stored_dir NOT LIKE '/blobs/%' ORDER BY id LIMIT ?";
+    private static final String UPDATE_POST_FILE_SQL = "UPDATE post_files SET stored_dir = ? WHERE id = ?";
+    // 상세 응답(파일 경로 포함)의 ETag가 바뀌도록 게시글 버전 증가
+    private static final String TOUCH_POST_SQL = "UPDATE posts SET version = version + 1, updated_at = ? WHERE id = ?";
+
+    private static final String SELECT_USERS_SQL = "SELECT id, image_url FROM users " +
+            "WHERE id > ? AND image_url LIKE '%" + IMAGE_PATH + "/%' " +
+            "AND image_url NOT LIKE '%" + IMAGE_PATH + "/files/%' AND image_url NOT LIKE '%" + IMAGE_PATH + "/blobs/%' " +
+            "ORDER BY id LIMIT ?";
+    // 이관 중 사용자가 프로필 이미지를 바꿨으면 덮어쓰지 않도록 읽었던 경로일 때만 변경
+    private static final String UPDATE_USER_SQL = "UPDATE users SET image_url = ? WHERE id = ? AND image_url = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileUtils fileUtils;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.upload.layout-migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${file.upload.layout-migration.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file.upload.layout-migration.threads:4}")
+    private int threads;
+
+    // 이관할 파일 한 건 (rowId: post_files.id 또는 users.id, reference: DB에 새로 쓸 값, previous: 읽을 때의 DB 값)
+    private record Relocation(Long rowId, Long postId, String storedDir, String targetDir, String reference,
+                              String previous) {
+    }
+
+    // 요청 처리를 막지 않도록 별도 스레드에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnReady() {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture.runAsync(this::migrate)
+                .exceptionally(e -> {
+                    log.error("파일 저장 경로 이관 실패", e);
+                    return null;
+                });
+    }
+
+    public void migrate() {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int postFiles = migratePostFiles(executor);
+            int users = migrateUserImages(executor);
+            log.info("파일 저장 경로 이관 완료 (첨부 {}건, 프로필 이미지 {}건)", postFiles, users);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int migratePostFiles(ExecutorService executor) {
+        int migrated = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Relocation> batch = jdbcTemplate.query(SELECT_POST_FILES_SQL, (rs, rowNum) -> {
+                String storedDir = rs.getString("stored_dir");
+                String targetDir = toShardedDir(storedDir);
+                return new Relocation(rs.getLong("id"), rs.getLong("post_id"), storedDir, targetDir, targetDir, storedDir);
+            }, lastId, batchSize);
+            if (batch.isEmpty()) {
+                return migrated;
+            }
+            lastId = batch.get(batch.size() - 1).rowId();
+
+            List<Relocation> linked = link(batch, executor);
+            Set<Long> postIds = linked.stream().map(Relocation::postId).collect(Collectors.toSet());
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_POST_FILE_SQL, linked.stream()
+                        .map(relocation -> new Object[]{relocation.reference(), relocation.rowId()})
+                        .toList());
+                jdbcTemplate.batchUpdate(TOUCH_POST_SQL, postIds.stream()
+                        .map(postId -> new Object[]{now, postId})
+                        .toList());
+            });
+
+            // 이 인스턴스의 상세 캐시는 바로 비움 (다른 인스턴스 캐시나 클라이언트가 가진 기존 경로는
+            // AttachmentSender가 같은 파일명의 분산 폴더 위치로 연결하므로 기존 파일은 바로 삭제해도 됨)
+            postDetailCache.invalidate(postIds);
+            unlink(linked, executor);
+
+            migrated += linked.size();
+        }
+    }
+
+    private int migrateUserImages(ExecutorService executor) {
+        int migrated = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Relocation> batch = jdbcTemplate.query(SELECT_USERS_SQL, (rs, rowNum) -> {
+                String imageUrl = rs.getString("image_url");
+                int index = imageUrl.indexOf(IMAGE_PATH + "/") + IMAGE_PATH.length();
+                String storedDir = imageUrl.substring(index);
+                String targetDir = toShardedDir(storedDir);
+                return new Relocation(rs.getLong("id"), null, storedDir, targetDir,
+                        imageUrl.substring(0, index) + targetDir, imageUrl);
+            }, lastId, batchSize);
+            if (batch.isEmpty()) {
+                return migrated;
+            }
+            lastId = batch.get(batch.size() - 1).rowId();
+
+            List<Relocation> linked = link(batch, executor);
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_USER_SQL, linked.stream()
+                    .map(relocation -> new Object[]{relocation.reference(), relocation.rowId(), relocation.previous()})
+                    .toList());
+
+            // 그 사이 경로가 바뀐 행은 기존 파일을 지우지 않음 (새 경로 링크는 원본과 같은 파일이라 남겨도 무방)
+            List<Relocation> relocated = new ArrayList<>(linked.size());
+            for (int i = 0; i < linked.size(); i++) {
+                if (updated[i] == 0) {
+                    log.info("이관 중 프로필 이미지가 바뀌어 건너뜀 (userId={})", linked.get(i).rowId());
+                    continue;
+                }
+                relocated.add(linked.get(i));
+            }
+            unlink(relocated, executor);
+
+            migrated += relocated.size();
+        }
+    }
+
+    // 원본과 축소본을 새 경로에 링크, 원본이 없는 행은 참조를 바꾸지 않고 남겨 둠
+    private List<Relocation> link(List<Relocation> batch, ExecutorService executor) {
+        List<CompletableFuture<Relocation>> futures = batch.stream()
+                .map(relocation -> CompletableFuture.supplyAsync(() -> {
+                    if (relocation.storedDir().equals(relocation.targetDir())) {
+                        return null;
+                    }
+                    if (!fileUtils.linkFile(relocation.storedDir(), relocation.targetDir())) {
+                        log.warn("이관할 파일 없음, 건너뜀 ({})", relocation.storedDir());
+                        return null;
+                    }
+                    for (int width : imageVariantGenerator.getWidths()) {
+                        fileUtils.linkFile(ImageVariantGenerator.variantPath(relocation.storedDir(), width),
+                                ImageVariantGenerator.variantPath(relocation.targetDir(), width));
+                    }
+                    return relocation;
+                }, executor))
+                .toList();
+
+        List<Relocation> linked = new ArrayList<>();
+        for (CompletableFuture<Relocation> future : futures) {
+            Relocation relocation = future.join();
+            if (relocation != null) {
+                linked.add(relocation);
+            }
+        }
+        return linked;
+    }
+
+    private void unlink(List<Relocation> linked, ExecutorService executor) {
+        CompletableFuture.allOf(linked.stream()
+                .map(relocation -> CompletableFuture.runAsync(() -> {
+                    fileUtils.deleteFile(relocation.storedDir());
+                    for (int width : imageVariantGenerator.getWidths()) {
+                        fileUtils.deleteFile(ImageVariantGenerator.variantPath(relocation.storedDir(), width));
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    // 파일명이 너무 짧아 분산 폴더를 만들 수 없으면 기존 경로 유지 (link 단계에서 건너뜀)
+    private String toShardedDir(String storedDir) {
+        String shardedDir = StorageLayout.shardedDirOf(storedDir);
+        return shardedDir == null ? storedDir : shardedDir;
+    }
+}
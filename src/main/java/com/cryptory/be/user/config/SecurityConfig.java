@@ -75,6 +75,7 @@ public class SecurityConfig {
                                 "/api/v1/coins/*/issues/*/comments",
                                 "/api/v1/coins/*/posts",
                                 "/api/v1/coins/*/posts/*",
+                                "/api/v1/coins/*/posts/*/comments",
                                 "/api/v1/news"
                         ).permitAll()
                         .anyRequest().authenticated())
@@ -1,6 +1,9 @@
 package com.cryptory.be.user.controller;
 
 import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.post.dto.PostDto;
+import com.cryptory.be.post.dto.PostSliceDto;
+import com.cryptory.be.post.service.PostService;
 import com.cryptory.be.user.dto.UpdateUserDto;
 import com.cryptory.be.user.dto.UserInfoDto;
 import com.cryptory.be.user.service.UserService;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.security.Principal;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -20,6 +24,7 @@ import java.security.Principal;
 public class UserController {
 
     private final UserService userService;
+    private final PostService postService;
 
     @GetMapping("/me")
     public ApiResponse<UserInfoDto> getUser(Principal principal) {
@@ -46,4 +51,31 @@ public class UserController {
         userService.updateImage(principal.getName(), file);
         return new ApiResponse<>(HttpStatus.OK, "프로필 이미지를 업데이트했습니다.");
     }
+
+    // 관심 코인들의 최신 게시글 (커서 기반)
+    @GetMapping("/me/feed")
+    public ApiResponse<PostDto> getFeed(Principal principal,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "10") int size) {
+        PostSliceDto feed = postService.getFeed(principal.getName(), cursor, size);
+        return new ApiResponse<>(HttpStatus.OK, feed.getPosts(), feed.getNextCursor());
+    }
+
+    @GetMapping("/me/watches")
+    public ApiResponse<Long> getWatchedCoins(Principal principal) {
+        List<Long> coinIds = userService.getWatchedCoins(principal.getName());
+        return new ApiResponse<>(HttpStatus.OK, coinIds);
+    }
+
+    @PutMapping("/me/watches/{coinId}")
+    public ApiResponse<?> watchCoin(Principal principal, @PathVariable("coinId") Long coinId) {
+        userService.watchCoin(principal.getName(), coinId);
+        return new ApiResponse<>(HttpStatus.OK, "관심 코인으로 등록했습니다.");
+    }
+
+    @DeleteMapping("/me/watches/{coinId}")
+    public ApiResponse<?> unwatchCoin(Principal principal, @PathVariable("coinId") Long coinId) {
+        userService.unwatchCoin(principal.getName(), coinId);
+        return new ApiResponse<>(HttpStatus.OK, "관심 코인 등록을 해제했습니다.");
+    }
 }
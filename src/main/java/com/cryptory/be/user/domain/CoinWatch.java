@@ -0,0 +1,31 @@
+package com.cryptory.be.user.domain;
+
+import com.cryptory.be.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자가 관심 등록한 코인 (피드 구성용)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "user_coin_watches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_coin_watches_user_coin", columnNames = {"user_id", "coin_id"})
+})
+public class CoinWatch extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // User 대리키 (users.id)
+    private Long userId;
+
+    private Long coinId;
+
+    public CoinWatch(Long userId, Long coinId) {
+        this.userId = userId;
+        this.coinId = coinId;
+    }
+}
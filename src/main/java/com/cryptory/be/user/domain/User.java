@@ -1,6 +1,7 @@
 package com.cryptory.be.user.domain;
 
 import com.cryptory.be.global.entity.BaseTimeEntity;
+import com.cryptory.be.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     // providerId는 인증 서버마다 다르고, 중복 위험이 있으므로(maybe) UUID로 unique 값
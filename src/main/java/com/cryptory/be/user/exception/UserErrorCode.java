@@ -20,6 +20,9 @@ public enum UserErrorCode implements ErrorCode {
 
     DENIED_USER(HttpStatus.FORBIDDEN, "차단된 사용자입니다."),
 
+    ALREADY_WATCHED_COIN(HttpStatus.CONFLICT, "이미 관심 등록한 코인입니다."),
+    TOO_MANY_WATCHED_COINS(HttpStatus.BAD_REQUEST, "관심 코인 등록 한도를 초과했습니다."),
+
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "유효하지 않은 서명입니다."),
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "로그인이 만료되었습니다. 다시 로그인해 주세요.");
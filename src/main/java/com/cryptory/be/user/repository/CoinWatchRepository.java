@@ -0,0 +1,25 @@
+package com.cryptory.be.user.repository;
+
+import com.cryptory.be.user.domain.CoinWatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CoinWatchRepository extends JpaRepository<CoinWatch, Long> {
+
+    @Query("SELECT w.coinId FROM CoinWatch w WHERE w.userId = :userId ORDER BY w.coinId")
+    List<Long> findCoinIdsByUserId(@Param("userId") Long userId);
+
+    boolean existsByUserIdAndCoinId(Long userId, Long coinId);
+
+    long countByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM CoinWatch w WHERE w.userId = :userId AND w.coinId = :coinId")
+    int deleteByUserIdAndCoinId(@Param("userId") Long userId, @Param("coinId") Long coinId);
+}
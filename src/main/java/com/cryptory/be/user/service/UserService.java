@@ -1,18 +1,28 @@
 package com.cryptory.be.user.service;
 
 import com.cryptory.be.global.util.FileUtils;
+import com.cryptory.be.global.util.ImageVariantGenerator;
+import com.cryptory.be.global.util.TransactionUtils;
+import com.cryptory.be.post.service.PostCountService;
+import com.cryptory.be.post.service.PostDetailCache;
+import com.cryptory.be.post.service.PostPageCache;
+import com.cryptory.be.user.domain.CoinWatch;
 import com.cryptory.be.user.domain.User;
 import com.cryptory.be.user.dto.UserInfoDto;
 import com.cryptory.be.user.exception.UserErrorCode;
 import com.cryptory.be.user.exception.UserException;
+import com.cryptory.be.user.repository.CoinWatchRepository;
 import com.cryptory.be.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,14 +30,23 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final CoinWatchRepository coinWatchRepository;
     private final ModelMapper modelMapper;
 
     private final FileUtils fileUtils;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PostPageCache postPageCache;
+    private final PostCountService postCountService;
+    private final PostDetailCache postDetailCache;
 
     // todo 환경 변수로 이동해야함
     private final static String DOMAIN = "http://localhost:8080";
     private final static String IMAGE_PATH = "/attach/files";
 
+    // 피드 병합 시 코인마다 조회가 하나씩 생기므로 등록 개수 제한
+    @Value("${user.watch.max-coins:50}")
+    private int maxWatchedCoins;
+
     // todo: 에러 처리
     public UserInfoDto getUser(String userId) {
         User user = userRepository.findByUserId(userId)
@@ -47,6 +66,11 @@ public class UserService {
                 .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
 
         user.updateNickname(nickname);
+
+        // 게시판 목록에 작성자 닉네임이 포함되어 있으므로 캐시 무효화 (목록 ETag도 바뀌도록 게시판 버전 증가)
+        postCountService.touchAll();
+        postPageCache.invalidateAll();
+        postDetailCache.invalidateAll();
     }
 
     @Transactional
@@ -55,8 +79,42 @@ public class UserService {
                 .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
 
         // 우선 게시글 이미지 업로드와 동일하게 처리(위치 동일하게)
-        String imageUrl = DOMAIN + IMAGE_PATH + fileUtils.saveFile(file);
+        String storedDir = fileUtils.saveFile(file);
+        String imageUrl = DOMAIN + IMAGE_PATH + storedDir;
 
         user.updateImage(imageUrl);
+
+        // 아바타 축소본은 백그라운드에서 생성 (imageUrl?w=160 으로 요청)
+        if (storedDir != null) {
+            TransactionUtils.afterCommit(() -> imageVariantGenerator.generateAsync(storedDir, widths -> { }));
+        }
+    }
+
+    public List<Long> getWatchedCoins(String userId) {
+        return coinWatchRepository.findCoinIdsByUserId(getUserEntity(userId).getId());
+    }
+
+    @Transactional
+    public void watchCoin(String userId, Long coinId) {
+        User user = getUserEntity(userId);
+
+        if (coinWatchRepository.existsByUserIdAndCoinId(user.getId(), coinId)) {
+            throw new UserException(UserErrorCode.ALREADY_WATCHED_COIN);
+        }
+        if (coinWatchRepository.countByUserId(user.getId()) >= maxWatchedCoins) {
+            throw new UserException(UserErrorCode.TOO_MANY_WATCHED_COINS);
+        }
+
+        coinWatchRepository.save(new CoinWatch(user.getId(), coinId));
+    }
+
+    @Transactional
+    public void unwatchCoin(String userId, Long coinId) {
+        coinWatchRepository.deleteByUserIdAndCoinId(getUserEntity(userId).getId(), coinId);
+    }
+
+    private User getUserEntity(String userId) {
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorCode.NOT_EXIST_USER));
     }
 }
@@ -0,0 +1,213 @@
+package com.cryptory.be.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 인메모리 DB 두 개를 primary / replica 대역으로 사용
+// 각 DB의 marker 테이블 값으로 실제로 어느 쪽에서 읽었는지 확인
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_MARKER_SQL = "SELECT name FROM marker";
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate routed;
+    private DataSourceTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary")
+    void routesByTransactionType() {
+        setUp(5000);
+        replicaBeat(System.currentTimeMillis());
+        replicaLagMonitor.check();
+
+        assertThat(read(true)).isEqualTo("replica");
+        assertThat(read(false)).isEqualTo("primary");
+        assertThat(routed.queryForObject(SELECT_MARKER_SQL, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("지연 측정 전이거나 heartbeat가 허용치보다 오래되면 읽기도 primary")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        setUp(5000);
+        assertThat(read(true)).isEqualTo("primary");
+
+        replicaBeat(System.currentTimeMillis() - 10_000);
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isHealthy()).isFalse();
+        assertThat(read(true)).isEqualTo("primary");
+
+        replicaBeat(System.currentTimeMillis());
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isHealthy()).isTrue();
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("heartbeat 테이블은 primary에 한 번만 만들고 매 주기 시각만 갱신")
+    void heartbeatWritesToPrimary() {
+        setUp(5000);
+        replicaLagMonitor.check();
+        replicaLagMonitor.check();
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM replica_heartbeat", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 읽기는 primary, 다른 사용자는 replica")
+    void readYourWritesIsStickyPerUser() {
+        setUp(5000);
+        replicaBeat(System.currentTimeMillis());
+        replicaLagMonitor.check();
+
+        login("writer");
+        write();
+        assertThat(read(true)).isEqualTo("primary");
+
+        login("reader");
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 응답의 쿠키를 가지고 다른 인스턴스로 가도 읽기는 primary")
+    void readYourWritesFollowsCookieAcrossInstances() {
+        setUp(5000);
+        login("writer");
+        MockHttpServletResponse writeResponse = bindRequest(new MockHttpServletRequest());
+        write();
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+
+        // 메모리 기록이 없는 새 인스턴스
+        setUp(5000);
+        replicaBeat(System.currentTimeMillis());
+        replicaLagMonitor.check();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        bindRequest(request);
+        assertThat(read(true)).isEqualTo("primary");
+
+        bindRequest(new MockHttpServletRequest());
+        assertThat(read(true)).isEqualTo("replica");
+
+        // 고정 시간보다 먼 미래 값은 무시
+        MockHttpServletRequest forged = new MockHttpServletRequest();
+        forged.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME, String.valueOf(Long.MAX_VALUE)));
+        bindRequest(forged);
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("고정 시간이 지나면 다시 replica")
+    void stickinessExpires() {
+        setUp(0);
+        replicaBeat(System.currentTimeMillis());
+        replicaLagMonitor.check();
+
+        login("writer");
+        write();
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("PrimaryReads 구간의 읽기 전용 트랜잭션은 primary")
+    void primaryReadsForcesPrimary() {
+        setUp(5000);
+        replicaBeat(System.currentTimeMillis());
+        replicaLagMonitor.check();
+
+        assertThat(PrimaryReads.call(() -> read(true))).isEqualTo("primary");
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    private void setUp(long stickyWindowMillis) {
+        DataSource primaryDataSource = newDatabase("primary");
+        DataSource replicaDataSource = newDatabase("replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        // 실제 복제가 없으므로 replica 쪽 heartbeat는 테스트에서 직접 기록
+        replica.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+
+        ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(stickyWindowMillis);
+        replicaLagMonitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, 1000);
+        replicaLagMonitor.createTable();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(readYourWritesTracker, replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource
+        ));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        routed = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private DataSource newDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private void replicaBeat(long beatAt) {
+        replica.update("DELETE FROM replica_heartbeat");
+        replica.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+    }
+
+    private String read(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> routed.queryForObject(SELECT_MARKER_SQL, String.class));
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                routed.update("UPDATE marker SET name = name"));
+    }
+
+    private MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private void login(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.cryptory.be.global.entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsidGeneratorTest {
+
+    private static final long LEASE_MILLIS = 60_000L;
+
+    @AfterEach
+    void tearDown() {
+        TsidGenerator.releaseNode();
+    }
+
+    @Test
+    @DisplayName("노드가 할당되지 않으면 ID를 만들지 않음")
+    void requiresNode() {
+        TsidGenerator.releaseNode();
+
+        assertThatThrownBy(TsidGenerator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 ID를 만들지 않음")
+    void requiresValidLease() throws InterruptedException {
+        TsidGenerator.assignNode(1, 1);
+        Thread.sleep(5);
+
+        assertThatThrownBy(TsidGenerator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호는 0 ~ MAX_NODES-1")
+    void rejectsOutOfRangeNode() {
+        assertThatThrownBy(() -> TsidGenerator.assignNode(-1, LEASE_MILLIS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TsidGenerator.assignNode(TsidGenerator.MAX_NODES, LEASE_MILLIS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 만든 ID는 순번을 다 써도 계속 증가")
+    void monotonicWithinNode() {
+        TsidGenerator.assignNode(3, LEASE_MILLIS);
+
+        long previous = TsidGenerator.next();
+        for (int i = 0; i < 10_000; i++) {
+            long current = TsidGenerator.next();
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 번호가 ID에 들어가므로 같은 시각이라도 노드가 다르면 ID가 다름")
+    void nodeIsEncoded() {
+        TsidGenerator.assignNode(5, LEASE_MILLIS);
+        long id = TsidGenerator.next();
+
+        assertThat((id >>> 8) & (TsidGenerator.MAX_NODES - 1)).isEqualTo(5L);
+        assertThat(id).isPositive().isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 만들어도 중복 없음")
+    void uniqueAcrossThreads() throws InterruptedException {
+        TsidGenerator.assignNode(7, LEASE_MILLIS);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                Set<Long> local = new HashSet<>();
+                for (int i = 0; i < perThread; i++) {
+                    local.add(TsidGenerator.next());
+                }
+                ids.addAll(local);
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,56 @@
+package com.cryptory.be.global.util;
+
+import com.cryptory.be.global.util.AttachmentSender.ByteRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttachmentSenderTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    @DisplayName("단일 구간은 양 끝을 포함한 바이트 범위로 해석")
+    void singleRange() {
+        assertThat(AttachmentSender.resolveRange("bytes=0-99", LENGTH)).isEqualTo(new ByteRange(0, 99));
+        assertThat(AttachmentSender.resolveRange("bytes=900-", LENGTH)).isEqualTo(new ByteRange(900, 999));
+    }
+
+    @Test
+    @DisplayName("끝을 넘는 구간은 파일 끝까지, 끝에서부터 구간은 마지막 N바이트")
+    void clampsToLength() {
+        assertThat(AttachmentSender.resolveRange("bytes=500-5000", LENGTH)).isEqualTo(new ByteRange(500, 999));
+        assertThat(AttachmentSender.resolveRange("bytes=-100", LENGTH)).isEqualTo(new ByteRange(900, 999));
+        assertThat(AttachmentSender.resolveRange("bytes=-5000", LENGTH)).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    @DisplayName("시작 위치가 파일 길이 이상이면 응답할 수 없는 구간 (416)")
+    void unsatisfiableRange() {
+        assertThat(AttachmentSender.resolveRange("bytes=1000-", LENGTH).isSatisfiable(LENGTH)).isFalse();
+        assertThat(AttachmentSender.resolveRange("bytes=2000-2100", LENGTH).isSatisfiable(LENGTH)).isFalse();
+        assertThat(AttachmentSender.resolveRange("bytes=0-0", 0).isSatisfiable(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 여러 구간이면 전체 응답")
+    void ignoresMalformedAndMultipleRanges() {
+        assertThat(AttachmentSender.resolveRange("bytes=abc", LENGTH)).isNull();
+        assertThat(AttachmentSender.resolveRange("items=0-1", LENGTH)).isNull();
+        assertThat(AttachmentSender.resolveRange("bytes=10-5", LENGTH)).isNull();
+        assertThat(AttachmentSender.resolveRange("bytes=0-9,20-29", LENGTH)).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Range는 현재 ETag와 정확히 같을 때만 부분 응답")
+    void ifRangeMustMatchEtag() {
+        String etag = "\"abc.png\"";
+
+        assertThat(AttachmentSender.isRangeApplicable(null, etag)).isTrue();
+        assertThat(AttachmentSender.isRangeApplicable("\"abc.png\"", etag)).isTrue();
+        assertThat(AttachmentSender.isRangeApplicable("W/\"abc.png\"", etag)).isFalse();
+        assertThat(AttachmentSender.isRangeApplicable("\"other.png\"", etag)).isFalse();
+        assertThat(AttachmentSender.isRangeApplicable("Wed, 21 Oct 2015 07:28:00 GMT", etag)).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package com.cryptory.be.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FPP = 0.01;
+
+    @Test
+    @DisplayName("처음 넣는 키만 true, 같은 키를 다시 넣으면 false")
+    void putReportsFirstInsertion() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+
+        assertThat(filter.put("u:1|42")).isTrue();
+        assertThat(filter.put("u:1|42")).isFalse();
+        assertThat(filter.mightContain("u:1|42")).isTrue();
+    }
+
+    @Test
+    @DisplayName("넣은 키는 항상 포함된다고 판단 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("ip:10.0.0." + i + "|" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("ip:10.0.0." + i + "|" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 삽입 수까지 채웠을 때 오탐률이 목표치 근처")
+    void falsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("in:" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("out:" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(FPP * 2);
+        assertThat(filter.expectedFpp()).isLessThan(FPP * 2);
+    }
+
+    @Test
+    @DisplayName("비트 수는 예상 삽입 수와 오탐률로 정해짐 (약 9.6비트/키 @1%)")
+    void sizesFromExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+
+        assertThat(filter.getBitSize()).isBetween(95_000L, 97_000L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.cryptory.be.post.dto;
+
+import com.cryptory.be.post.exception.PostErrorCode;
+import com.cryptory.be.post.exception.PostException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 다시 해석하면 같은 위치")
+    void roundTrip() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 1234567890123L);
+
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(decoded.getId()).isEqualTo(cursor.getId());
+    }
+
+    @Test
+    @DisplayName("URL에 그대로 넣을 수 있는 문자만 사용")
+    void urlSafe() {
+        String encoded = new PostCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 255L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "!!!", "bm90LWEtY3Vyc29y", "MjAyNS0wMS0wMVQwMDowMHxhYmM"})
+    @DisplayName("잘못된 커서는 INVALID_CURSOR")
+    void rejectsInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> PostCursor.decode(cursor))
+                .isInstanceOf(PostException.class)
+                .extracting(e -> ((PostException) e).getErrorCode())
+                .isEqualTo(PostErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("날짜 부분이 잘못된 커서도 INVALID_CURSOR")
+    void rejectsInvalidDate() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-13-01T00:00|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PostCursor.decode(cursor)).isInstanceOf(PostException.class);
+    }
+}
@@ -0,0 +1,14 @@
+package com.cryptory.be.post.repository;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// @DataJpaTest 전용 설정 (UserServer의 Feign/Eureka 설정 없이 엔티티와 게시글 리포지토리만 올림)
+@SpringBootConfiguration
+@EnableJpaAuditing
+@EntityScan(basePackages = "com.cryptory.be")
+@EnableJpaRepositories(basePackages = "com.cryptory.be.post.repository")
+public class JpaTestConfig {
+}
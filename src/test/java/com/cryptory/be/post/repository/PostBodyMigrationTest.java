@@ -0,0 +1,110 @@
+package com.cryptory.be.post.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 파일 기반 H2로 본문 분리 전후 posts 테이블 크기를 비교하고 이관 동작을 확인
+class PostBodyMigrationTest {
+
+    private static final int ROWS = 1000;
+    private static final String BODY = "가".repeat(2000);
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:file:" + dir.resolve("posts") + ";MODE=MySQL", "sa", ""));
+        // 본문이 페이지 안에 함께 저장되는 경우(InnoDB DYNAMIC에서 행이 반 페이지보다 작을 때)를 가정해서 VARCHAR로 생성
+        jdbcTemplate.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY, coin_id BIGINT, title VARCHAR(100), body VARCHAR(8000))");
+        jdbcTemplate.execute("CREATE TABLE post_bodies (post_id BIGINT PRIMARY KEY, body VARCHAR(8000))");
+    }
+
+    @Test
+    @DisplayName("본문을 분리하면 목록이 읽는 posts 테이블 크기가 크게 줄어듦")
+    void splitBodyShrinksPostsTable() {
+        jdbcTemplate.execute("CREATE TABLE posts_without_body (id BIGINT PRIMARY KEY, coin_id BIGINT, title VARCHAR(100))");
+        insertPosts(ROWS);
+        jdbcTemplate.update("INSERT INTO posts_without_body (id, coin_id, title) SELECT id, coin_id, title FROM posts");
+        jdbcTemplate.execute("CHECKPOINT");
+
+        long withBody = diskSpaceUsed("POSTS");
+        long withoutBody = diskSpaceUsed("POSTS_WITHOUT_BODY");
+
+        assertThat(withBody).isPositive();
+        assertThat(withoutBody).isLessThan(withBody / 10);
+    }
+
+    @Test
+    @DisplayName("설정이 꺼져 있으면 이관하지 않음")
+    void disabledByDefault() {
+        insertPosts(10);
+
+        migration(false).migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_bodies", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("아직 옮기지 않은 본문만 복사하므로 다시 실행해도 중복되지 않음")
+    void copiesOnlyMissingBodies() {
+        insertPosts(10);
+        jdbcTemplate.update("INSERT INTO post_bodies (post_id, body) VALUES (1, 'edited')");
+
+        migration(true).migrate();
+        migration(true).migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_bodies", Long.class)).isEqualTo(10L);
+        assertThat(jdbcTemplate.queryForObject("SELECT body FROM post_bodies WHERE post_id = 1", String.class))
+                .isEqualTo("edited");
+    }
+
+    @Test
+    @DisplayName("이관 전에는 기존 컬럼의 본문을 그대로 읽음")
+    void readsLegacyBodyBeforeMigration() {
+        insertPosts(1);
+
+        assertThat(migration(false).findLegacyBody(1L)).contains(BODY);
+        assertThat(migration(false).findLegacyBody(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이관 중 오류가 나도 예외를 밖으로 던지지 않음")
+    void failureDoesNotAbortStartup() {
+        jdbcTemplate.execute("DROP TABLE post_bodies");
+
+        migration(true).migrate();
+    }
+
+    private PostBodyMigration migration(boolean enabled) {
+        PostBodyMigration migration = new PostBodyMigration(jdbcTemplate);
+        ReflectionTestUtils.setField(migration, "enabled", enabled);
+        return migration;
+    }
+
+    private void insertPosts(int rows) {
+        List<Object[]> args = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            args.add(new Object[]{id, 1L, "제목 " + id, BODY});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, coin_id, title, body) VALUES (?, ?, ?, ?)", args);
+    }
+
+    private long diskSpaceUsed(String table) {
+        return jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED(?)", Long.class, table);
+    }
+}
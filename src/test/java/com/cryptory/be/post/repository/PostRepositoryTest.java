@@ -0,0 +1,104 @@
+package com.cryptory.be.post.repository;
+
+import com.cryptory.be.global.entity.TsidGenerator;
+import com.cryptory.be.post.domain.Post;
+import com.cryptory.be.post.dto.PostSummary;
+import com.cryptory.be.user.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 H2로 게시글 목록 쿼리 확인
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "CONFIG_SERVER_URL=http://localhost:8888",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostRepositoryTest {
+
+    private static final int COINS = 20;
+    private static final int POSTS_PER_COIN = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void assignTsidNode() {
+        TsidGenerator.assignNode(0, 60 * 60 * 1000L);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 삭제 필터와 정렬을 DB에서 처리하고 (coin_id, is_deleted, created_at, id) 인덱스를 사용")
+    void activeListUsesCoinDeletedCreatedIndex() {
+        List<Post> posts = savePosts();
+        // 코인 1 게시글 중 절반 삭제
+        posts.stream()
+                .filter(post -> post.getCoinId() == 1L)
+                .limit(POSTS_PER_COIN / 2)
+                .forEach(Post::delete);
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.execute("ANALYZE");
+
+        List<PostSummary> page = postRepository.findActiveByCoinId(1L, PageRequest.of(0, 20));
+
+        assertThat(page).hasSize(20);
+        assertThat(page).extracting(PostSummary::getId)
+                .allSatisfy(id -> assertThat(postRepository.findById(id)).get().matches(Post::isNotDeleted));
+        assertThat(page).extracting(PostSummary::getCreatedAt)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id FROM posts " +
+                "WHERE coin_id = 1 AND is_deleted = false ORDER BY created_at DESC, id DESC LIMIT 20", String.class);
+        assertThat(plan).containsIgnoringCase("idx_posts_coin_deleted_created");
+    }
+
+    @Test
+    @DisplayName("목록 한 페이지는 작성자 닉네임까지 SELECT 한 번으로 조회하고 엔티티를 로딩하지 않음")
+    void activeListIsSingleStatement() {
+        savePosts();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<PostSummary> page = postRepository.findActiveByCoinId(3L, PageRequest.of(0, 20));
+
+        assertThat(page).hasSize(20);
+        assertThat(page).extracting(PostSummary::getNickname).containsOnly("작성자3");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    // 코인 COINS개 x 게시글 POSTS_PER_COIN개, 코인마다 작성자 한 명
+    private List<Post> savePosts() {
+        List<Post> posts = new ArrayList<>();
+        for (long coinId = 1; coinId <= COINS; coinId++) {
+            User user = entityManager.persist(new User("작성자" + coinId, "", "provider" + coinId, "test"));
+            for (int i = 0; i < POSTS_PER_COIN; i++) {
+                posts.add(entityManager.persist(Post.builder().title("제목 " + i).user(user).coinId(coinId).build()));
+            }
+        }
+        entityManager.flush();
+        return posts;
+    }
+}
@@ -0,0 +1,146 @@
+package com.cryptory.be.post.service;
+
+import com.cryptory.be.post.dto.PostCursor;
+import com.cryptory.be.post.dto.PostSummary;
+import com.cryptory.be.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 코인별 keyset 조회를 메모리 목록으로 대신하고, 병합 결과를 전체 정렬 결과와 비교
+class PostFeedMergerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Comparator<PostSummary> NEWEST_FIRST =
+            Comparator.comparing(PostSummary::getCreatedAt).thenComparing(PostSummary::getId).reversed();
+
+    private final Map<Long, List<PostSummary>> boards = new HashMap<>();
+    private PostRepository postRepository;
+    private PostFeedMerger merger;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findFirstSlice(anyLong(), any(Pageable.class))).thenAnswer(invocation ->
+                slice(invocation.getArgument(0), null, invocation.getArgument(1)));
+        when(postRepository.findSliceAfter(anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> slice(invocation.getArgument(0),
+                        new PostCursor(invocation.getArgument(1), invocation.getArgument(2)),
+                        invocation.getArgument(3)));
+
+        merger = new PostFeedMerger(postRepository);
+        ReflectionTestUtils.setField(merger, "threads", 2);
+        ReflectionTestUtils.setField(merger, "queueCapacity", 4);
+        merger.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        merger.close();
+    }
+
+    @Test
+    @DisplayName("여러 코인의 게시글을 (createdAt, id) 내림차순으로 병합")
+    void mergesNewestFirst() {
+        // 코인마다 번갈아 작성, 같은 시각 게시글은 id로 순서 결정
+        for (long coinId = 1; coinId <= 3; coinId++) {
+            for (int i = 0; i < 30; i++) {
+                write(coinId, i * 10 + coinId, BASE.plusMinutes(i));
+            }
+        }
+
+        List<PostSummary> merged = merger.merge(List.of(1L, 2L, 3L), null, 20);
+
+        assertThat(merged).extracting(PostSummary::getId).containsExactlyElementsOf(expected(null, 20));
+        verify(postRepository).findFirstSlice(1L, PageRequest.of(0, 20 / 3 + 1));
+    }
+
+    @Test
+    @DisplayName("최신 글이 한 코인에 몰려 있으면 그 코인만 남은 개수만큼 이어서 조회")
+    void refillsExhaustedCoin() {
+        for (int i = 0; i < 50; i++) {
+            write(1L, 1000L + i, BASE.plusHours(1).plusMinutes(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            write(2L, 2000L + i, BASE.plusMinutes(i));
+            write(3L, 3000L + i, BASE.plusMinutes(i));
+        }
+
+        List<PostSummary> merged = merger.merge(List.of(1L, 2L, 3L), null, 30);
+
+        assertThat(merged).extracting(PostSummary::getId).containsExactlyElementsOf(expected(null, 30));
+        assertThat(merged).allMatch(post -> post.getId() >= 1000L && post.getId() < 2000L);
+    }
+
+    @Test
+    @DisplayName("커서 이후(더 오래된) 게시글부터 이어서 조회하고, 전체가 limit보다 적으면 있는 만큼만")
+    void continuesAfterCursor() {
+        for (long coinId = 1; coinId <= 2; coinId++) {
+            for (int i = 0; i < 10; i++) {
+                write(coinId, coinId * 100 + i, BASE.plusMinutes(i * 2 + coinId));
+            }
+        }
+
+        List<PostSummary> first = merger.merge(List.of(1L, 2L), null, 8);
+        PostSummary last = first.get(first.size() - 1);
+        PostCursor cursor = new PostCursor(last.getCreatedAt(), last.getId());
+        List<PostSummary> rest = merger.merge(List.of(1L, 2L), cursor, 100);
+
+        assertThat(rest).extracting(PostSummary::getId).containsExactlyElementsOf(expected(cursor, 100));
+        assertThat(first.size() + rest.size()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("코인이 없거나 limit이 0이면 조회하지 않음")
+    void emptyInput() {
+        assertThat(merger.merge(List.of(), null, 10)).isEmpty();
+        assertThat(merger.merge(List.of(1L), null, 0)).isEmpty();
+    }
+
+    private void write(Long coinId, long postId, LocalDateTime createdAt) {
+        boards.computeIfAbsent(coinId, id -> new ArrayList<>())
+                .add(new PostSummary(postId, "제목 " + postId, "작성자", createdAt, 0L));
+    }
+
+    // findFirstSlice / findSliceAfter와 같은 조건
+    private List<PostSummary> slice(Long coinId, PostCursor after, Pageable pageable) {
+        return boards.getOrDefault(coinId, List.of()).stream()
+                .filter(post -> after == null || isOlder(post, after))
+                .sorted(NEWEST_FIRST)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private List<Long> expected(PostCursor after, int limit) {
+        return boards.values().stream()
+                .flatMap(List::stream)
+                .filter(post -> after == null || isOlder(post, after))
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .map(PostSummary::getId)
+                .toList();
+    }
+
+    private boolean isOlder(PostSummary post, PostCursor after) {
+        int compared = post.getCreatedAt().compareTo(after.getCreatedAt());
+        return compared < 0 || (compared == 0 && post.getId() < after.getId());
+    }
+}